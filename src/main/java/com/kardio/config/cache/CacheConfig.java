@@ -1,55 +1,61 @@
 package com.kardio.config.cache;
 
-import java.time.Duration;
-import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
-
+import com.kardio.constant.AppConstants.CacheNames;
+import com.kardio.service.cache.HotReadCache;
+
+/**
+ * Single cache manager with one Caffeine spec per cache.
+ * <p>
+ * Each cache reads its spec from {@code kardio.cache.spec.<name>} and falls back
+ * to {@code kardio.cache.default-spec}. Caches read through
+ * {@link com.kardio.service.cache.HotReadCache} are loading caches and may also
+ * set refreshAfterWrite; the others are filled by {@code @Cacheable} and must
+ * not. Stale entries are evicted by
+ * {@link com.kardio.service.cache.CacheEvictionListener}, so TTLs only bound
+ * entries whose change was missed. Every cache records statistics, which Spring
+ * Boot publishes as the {@code cache.*} metrics.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
-    @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-
-        // Configure cache names
-        cacheManager
-            .setCacheNames(
-                Arrays.asList("publicModules", "recentModules", "moduleStatistics", "folders", "vocabularyCounts"));
-
-        // Default cache configuration
-        cacheManager.setCaffeine(caffeineCacheBuilder());
-
-        return cacheManager;
-    }
+    private static final List<String> CACHE_NAMES = List
+        .of(CacheNames.PUBLIC_MODULES, CacheNames.RECENT_MODULES, CacheNames.MODULES, CacheNames.FOLDER_HIERARCHY);
 
-    @Bean
-    public Caffeine<Object, Object> caffeineCacheBuilder() {
-        return Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(30)).maximumSize(1000);
-    }
+    private static final Set<String> LOADING_CACHE_NAMES = Set
+        .of(CacheNames.PUBLIC_MODULES, CacheNames.MODULES, CacheNames.FOLDER_HIERARCHY);
 
-    /**
-     * Custom cache configurations can be defined as separate cache managers if
-     * needed
-     */
-    @Bean
-    public CacheManager publicModulesCacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("publicModules");
-        cacheManager.setCaffeine(Caffeine.newBuilder().expireAfterWrite(Duration.ofHours(1)).maximumSize(200));
-        return cacheManager;
-    }
+    private static final String DEFAULT_SPEC = "maximumSize=1000,expireAfterWrite=30m";
 
     @Bean
-    public CacheManager recentModulesCacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("recentModules");
-        cacheManager.setCaffeine(Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(15)).maximumSize(500));
+    public CacheManager cacheManager(Environment environment) {
+        final String defaultSpec = environment.getProperty("kardio.cache.default-spec", DEFAULT_SPEC);
+
+        final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.from(defaultSpec).recordStats());
+
+        // Fixed names: an unknown name would get a cache that no listener evicts.
+        // Set before the custom caches, since setting names recreates their caches.
+        cacheManager.setCacheNames(CACHE_NAMES);
+        for (String name : CACHE_NAMES) {
+            final String spec = environment.getProperty("kardio.cache.spec." + name, defaultSpec);
+            final Caffeine<Object, Object> builder = Caffeine.from(spec).recordStats();
+            cacheManager
+                .registerCustomCache(
+                    name,
+                    LOADING_CACHE_NAMES.contains(name) ? builder.build(HotReadCache.keyLoader()) : builder.build());
+        }
         return cacheManager;
     }
-}
\ No newline at end of file
+}
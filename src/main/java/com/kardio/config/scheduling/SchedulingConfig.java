@@ -0,0 +1,10 @@
+package com.kardio.config.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+	// Enables @Scheduled background jobs (buffer flushes, sweepers, reconcilers)
+}
@@ -77,9 +77,10 @@ public final class AppConstants {
 
         public static final String PUBLIC_MODULES = "publicModules";
         public static final String RECENT_MODULES = "recentModules";
+        public static final String MODULES = "modules";
+        public static final String FOLDER_HIERARCHY = "folderHierarchy";
         public static final String MODULE_STATISTICS = "moduleStatistics";
         public static final String FOLDERS = "folders";
-        public static final String VOCABULARY_COUNTS = "vocabularyCounts";
     }
 
     /**
@@ -18,9 +18,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.kardio.dto.common.PageResponse;
+import com.kardio.dto.common.ResourceVersion;
 import com.kardio.dto.common.SuccessResponse;
+import com.kardio.dto.common.Versioned;
 import com.kardio.dto.folder.FolderCreateRequest;
 import com.kardio.dto.folder.FolderDetailedResponse;
 import com.kardio.dto.folder.FolderHierarchyResponse;
@@ -200,16 +203,30 @@ public class FolderController {
      * Gets the complete folder hierarchy for the current user.
      *
      * @param userDetails Authenticated user details
-     * @return The folder hierarchy
+     * @param webRequest  Request, for If-None-Match / If-Modified-Since
+     * @return The folder hierarchy, or 304 if the client's copy is current
      */
     @GetMapping("/hierarchy")
     @Operation(summary = "Get the complete folder hierarchy for the current user")
     public ResponseEntity<List<FolderHierarchyResponse>> getFolderHierarchy(
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest) {
 
         UUID userId = userDetails.getUser().getId();
-        List<FolderHierarchyResponse> hierarchy = folderService.getFolderHierarchy(userId);
-        return ResponseEntity.ok(hierarchy);
+
+        ResourceVersion version = folderService.getFolderHierarchyVersion(userId);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+
+        // Tag the body with the version it was loaded at, which a cached copy may lag behind
+        Versioned<List<FolderHierarchyResponse>> hierarchy = folderService.getFolderHierarchy(userId, version);
+        ResourceVersion served = hierarchy.getVersion();
+        return ResponseEntity
+            .ok()
+            .eTag(served.getEtag())
+            .lastModified(served.getLastModified())
+            .body(hierarchy.getValue());
     }
 
     /**
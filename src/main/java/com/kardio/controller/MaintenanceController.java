@@ -0,0 +1,39 @@
+package com.kardio.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.kardio.dto.common.SuccessResponse;
+import com.kardio.service.maintenance.ModuleAccessRebuilder;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Controller for maintenance operations.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/maintenance")
+@RequiredArgsConstructor
+@Tag(name = "Maintenance", description = "Endpoints for repairing derived data")
+public class MaintenanceController {
+
+    private final ModuleAccessRebuilder moduleAccessRebuilder;
+
+    /**
+     * Rebuilds module access from modules and shares.
+     *
+     * @return Success response with the number of access rows written
+     */
+    @PostMapping("/module-access/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rebuild module access from modules and shares")
+    public ResponseEntity<SuccessResponse> rebuildModuleAccess() {
+        final int written = moduleAccessRebuilder.rebuild();
+        return ResponseEntity.ok(SuccessResponse.of("Module access rebuilt: " + written + " rows"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.kardio.controller;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.kardio.dto.review.DueReviewPageResponse;
+import com.kardio.security.CustomUserDetails;
+import com.kardio.service.ReviewService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Controller for spaced-repetition review operations.
+ */
+@RestController
+@RequestMapping("/api/v1/reviews")
+@RequiredArgsConstructor
+@Tag(name = "Review Queue", description = "Endpoints for cards due for review")
+public class ReviewController {
+
+    private final ReviewService reviewService;
+
+    /**
+     * Gets the cards due for review for the current user.
+     *
+     * @param userDetails       Authenticated user details
+     * @param limit             Maximum number of cards
+     * @param afterDueAt        Next review time of the last card of the previous page
+     * @param afterVocabularyId Vocabulary ID of the last card of the previous page
+     * @return Due cards, most overdue first
+     */
+    @GetMapping("/due")
+    @Operation(summary = "Get cards due for review across accessible modules")
+    public ResponseEntity<DueReviewPageResponse> getDueReviews(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterDueAt,
+            @RequestParam(required = false) UUID afterVocabularyId) {
+
+        final UUID userId = userDetails.getUser().getId();
+        final DueReviewPageResponse response = reviewService
+            .getDueReviews(userId, limit, afterDueAt, afterVocabularyId);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -6,7 +6,9 @@ import java.util.UUID;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,12 +17,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.kardio.dto.common.PageResponse;
+import com.kardio.dto.common.ResourceVersion;
+import com.kardio.dto.common.SerializedResponse;
 import com.kardio.dto.common.SuccessResponse;
+import com.kardio.dto.common.Versioned;
 import com.kardio.dto.module.StudyModuleCreateRequest;
 import com.kardio.dto.module.StudyModuleDetailedResponse;
 import com.kardio.dto.module.StudyModuleResponse;
@@ -70,17 +77,34 @@ public class StudyModuleController {
      *
      * @param id          Module ID
      * @param userDetails Authenticated user details
-     * @return The module response
+     * @param webRequest  Request, for If-None-Match / If-Modified-Since
+     * @return The module response, or 304 if the client's copy is current
      */
     @GetMapping("/{id}")
     @Operation(summary = "Get module by ID")
     public
             ResponseEntity<StudyModuleResponse>
-            getModuleById(@PathVariable UUID id, @AuthenticationPrincipal CustomUserDetails userDetails) {
+            getModuleById(
+                    @PathVariable UUID id,
+                    @AuthenticationPrincipal CustomUserDetails userDetails,
+                    WebRequest webRequest) {
 
         UUID userId = userDetails.getUser().getId();
-        StudyModuleResponse module = studyModuleService.getModuleById(id, userId);
-        return ResponseEntity.ok(module);
+
+        // Answer revalidations from the version alone, without loading the module
+        ResourceVersion version = studyModuleService.getModuleVersion(id, userId);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+
+        // Tag the body with the version it was loaded at, which a cached copy may lag behind
+        Versioned<StudyModuleResponse> module = studyModuleService.getModuleById(id, userId, version);
+        ResourceVersion served = module.getVersion();
+        return ResponseEntity
+            .ok()
+            .eTag(served.getEtag())
+            .lastModified(served.getLastModified())
+            .body(module.getValue());
     }
 
     /**
@@ -203,22 +227,41 @@ public class StudyModuleController {
      * @param page      Page number (0-based)
      * @param size      Page size
      * @param sort      Sort field
-     * @param direction Sort direction
-     * @return Paginated list of public modules
+     * @param direction      Sort direction
+     * @param acceptEncoding Accept-Encoding header, to pick the gzip variant
+     * @param webRequest     Request, for If-None-Match
+     * @return Paginated list of public modules as cached JSON bytes, or 304 if
+     *         the client's copy is current
      */
     @GetMapping("/public")
     @Operation(summary = "Get all public modules")
-    public ResponseEntity<PageResponse<StudyModuleSummaryResponse>> getPublicModules(
+    public ResponseEntity<byte[]> getPublicModules(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sort,
-            @RequestParam(defaultValue = "DESC") String direction) {
+            @RequestParam(defaultValue = "DESC") String direction,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
 
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        PageResponse<StudyModuleSummaryResponse> response = studyModuleService.getPublicModules(pageable);
-        return ResponseEntity.ok(response);
+        SerializedResponse<PageResponse<StudyModuleSummaryResponse>> response = studyModuleService
+            .getPublicModules(pageable);
+        if (webRequest.checkNotModified(response.getEtag())) {
+            return null;
+        }
+
+        // Bytes are written as-is; server compression leaves responses with a Content-Encoding alone
+        ResponseEntity.BodyBuilder builder = ResponseEntity
+            .ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(response.getEtag())
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (response.isGzipAcceptable(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.getGzip());
+        }
+        return builder.body(response.getJson());
     }
 
     /**
@@ -249,16 +292,14 @@ public class StudyModuleController {
     }
 
     /**
-     * Searches modules by term.
+     * Searches modules by term, best matches first.
      *
      * @param term        Search term
      * @param publicOnly  Whether to search only public modules
      * @param userDetails Authenticated user details
      * @param page        Page number (0-based)
      * @param size        Page size
-     * @param sort        Sort field
-     * @param direction   Sort direction
-     * @return Paginated list of matching modules
+     * @return Paginated list of matching modules ordered by relevance
      */
     @GetMapping("/search")
     @Operation(summary = "Search modules by term")
@@ -267,13 +308,10 @@ public class StudyModuleController {
             @RequestParam(defaultValue = "false") boolean publicOnly,
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "name") String sort,
-            @RequestParam(defaultValue = "ASC") String direction) {
+            @RequestParam(defaultValue = "20") int size) {
 
         UUID userId = userDetails.getUser().getId();
-        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
+        Pageable pageable = PageRequest.of(page, size);
 
         PageResponse<StudyModuleSummaryResponse> response = studyModuleService
             .searchModules(term, publicOnly, userId, pageable);
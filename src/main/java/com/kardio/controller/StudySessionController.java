@@ -22,6 +22,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.kardio.dto.common.PageResponse;
 import com.kardio.dto.common.SuccessResponse;
+import com.kardio.dto.progress.LearningProgressBatchUpdateRequest;
+import com.kardio.dto.session.SessionCardResponse;
 import com.kardio.dto.session.SessionItemAnalysisResponse;
 import com.kardio.dto.session.StudySessionCreateRequest;
 import com.kardio.dto.session.StudySessionDetailedResponse;
@@ -103,6 +105,26 @@ public class StudySessionController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Gets the next cards to study in a LEARN or FLASHCARD session.
+     *
+     * @param id          Session ID
+     * @param count       Maximum number of cards
+     * @param userDetails Authenticated user details
+     * @return Next cards, weakest first
+     */
+    @GetMapping("/{id}/next")
+    @Operation(summary = "Get the next cards to study in a LEARN or FLASHCARD session")
+    public ResponseEntity<List<SessionCardResponse>> getNextCards(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "10") int count,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        final UUID userId = userDetails.getUser().getId();
+        final List<SessionCardResponse> response = studySessionService.getNextCards(id, count, userId);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Records an attempt in a session.
      *
@@ -122,6 +144,25 @@ public class StudySessionController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Records a batch of attempts in a session.
+     *
+     * @param request     The batch of attempts
+     * @param userDetails Authenticated user details
+     * @return The updated session
+     */
+    @PostMapping("/record-attempts")
+    @Operation(summary = "Record a batch of attempts in a session")
+    public ResponseEntity<StudySessionResponse> recordAttempts(
+            @Valid
+            @RequestBody LearningProgressBatchUpdateRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        final UUID userId = userDetails.getUser().getId();
+        final StudySessionResponse response = studySessionService.recordAttempts(request, userId);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Ends a session.
      *
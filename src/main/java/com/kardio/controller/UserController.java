@@ -8,6 +8,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -19,9 +20,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.kardio.dto.common.PageResponse;
 import com.kardio.dto.common.SuccessResponse;
+import com.kardio.dto.progress.UserStatsResponse;
 import com.kardio.dto.user.UserDetailedResponse;
 import com.kardio.dto.user.UserResponse;
 import com.kardio.dto.user.UserUpdateRequest;
+import com.kardio.security.CustomUserDetails;
 import com.kardio.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -69,6 +72,19 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Gets the learning statistics of the current user.
+     *
+     * @param userDetails Current user details
+     * @return User statistics
+     */
+    @GetMapping("/me/stats")
+    @Operation(summary = "Get learning statistics of the current user")
+    public ResponseEntity<UserStatsResponse> getMyStats(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        UserStatsResponse stats = userService.getUserStats(userDetails.getUser().getId());
+        return ResponseEntity.ok(stats);
+    }
+
     /**
      * Gets a user by ID.
      *
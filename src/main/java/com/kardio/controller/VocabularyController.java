@@ -17,8 +17,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.kardio.dto.common.PageResponse;
+import com.kardio.dto.common.ResourceVersion;
 import com.kardio.dto.common.SuccessResponse;
 import com.kardio.dto.vocabulary.VocabularyBulkImportRequest;
 import com.kardio.dto.vocabulary.VocabularyBulkOperationResponse;
@@ -125,12 +127,13 @@ public class VocabularyController {
     /**
      * Gets all vocabularies in a module.
      *
-     * @param moduleId  Module ID
-     * @param page      Page number (0-based)
-     * @param size      Page size
-     * @param sort      Sort field
-     * @param direction Sort direction
-     * @return Paginated list of vocabularies
+     * @param moduleId   Module ID
+     * @param page       Page number (0-based)
+     * @param size       Page size
+     * @param sort       Sort field
+     * @param direction  Sort direction
+     * @param webRequest Request, for If-None-Match / If-Modified-Since
+     * @return Paginated list of vocabularies, or 304 if the client's copy is current
      */
     @GetMapping("/module/{moduleId}")
     @Operation(summary = "Get all vocabularies in a module")
@@ -139,13 +142,20 @@ public class VocabularyController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sort,
-            @RequestParam(defaultValue = "DESC") String direction) {
+            @RequestParam(defaultValue = "DESC") String direction,
+            WebRequest webRequest) {
+
+        // One version covers every page of the module's list
+        ResourceVersion version = vocabularyService.getVocabulariesVersion(moduleId);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
 
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
         PageResponse<VocabularyResponse> response = vocabularyService.getVocabulariesByModule(moduleId, pageable);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(version.getEtag()).lastModified(version.getLastModified()).body(response);
     }
 
     /**
@@ -222,28 +232,32 @@ public class VocabularyController {
     }
 
     /**
-     * Searches vocabularies by term.
+     * Searches the vocabularies the current user can access by term and
+     * definition, tolerating typos.
      *
-     * @param term      Search term
-     * @param page      Page number (0-based)
-     * @param size      Page size
-     * @param sort      Sort field
-     * @param direction Sort direction
-     * @return Paginated list of matching vocabularies
+     * @param term        Search term
+     * @param moduleId    Optional module to search in
+     * @param ownerId     Optional creator of the modules to search in
+     * @param page        Page number (0-based)
+     * @param size        Page size
+     * @param userDetails Authenticated user details
+     * @return Paginated list of matching vocabularies ordered by similarity
      */
     @GetMapping("/search")
-    @Operation(summary = "Search vocabularies by term")
+    @Operation(summary = "Search vocabularies by term and definition")
     public ResponseEntity<PageResponse<VocabularyResponse>> searchVocabularies(
             @RequestParam String term,
+            @RequestParam(required = false) UUID moduleId,
+            @RequestParam(required = false) UUID ownerId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "term") String sort,
-            @RequestParam(defaultValue = "ASC") String direction) {
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
+        UUID userId = userDetails.getUser().getId();
+        Pageable pageable = PageRequest.of(page, size);
 
-        PageResponse<VocabularyResponse> response = vocabularyService.searchVocabularies(term, pageable);
+        PageResponse<VocabularyResponse> response = vocabularyService
+            .searchVocabularies(term, moduleId, ownerId, userId, pageable);
         return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
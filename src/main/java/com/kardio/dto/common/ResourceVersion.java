@@ -0,0 +1,32 @@
+package com.kardio.dto.common;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Version of a resource for conditional GET: a weak ETag and a Last-Modified
+ * time, derived from an aggregate of the rows behind the response. Change
+ * times are read as UTC rather than in the node's zone, so every node produces
+ * the same validators for the same data.
+ */
+@Getter
+@AllArgsConstructor
+public class ResourceVersion {
+	private String etag;
+	private long lastModified;
+
+	/**
+	 * Builds a version from the latest change time and item count of a resource.
+	 *
+	 * @param lastModified Latest change time, or null if nothing was ever written
+	 * @param itemCount    Number of live items behind the response
+	 * @return The version
+	 */
+	public static ResourceVersion of(LocalDateTime lastModified, long itemCount) {
+		final long millis = lastModified != null ? lastModified.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+		return new ResourceVersion("W/\"" + Long.toHexString(millis) + "-" + Long.toHexString(itemCount) + "\"", millis);
+	}
+}
@@ -0,0 +1,79 @@
+package com.kardio.dto.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A response serialized once, kept as JSON bytes and, when smaller, a gzip
+ * variant, so cache hits are written out without serializing or compressing.
+ * The value is kept alongside for eviction checks.
+ *
+ * @param <T> Type of the serialized value
+ */
+@Getter
+@AllArgsConstructor
+public class SerializedResponse<T> {
+	private T value;
+	private byte[] json;
+	private byte[] gzip;
+	private String etag;
+
+	/**
+	 * Serializes and compresses a value.
+	 *
+	 * @param objectMapper Mapper configured like the HTTP message converters
+	 * @param value        Value to serialize
+	 * @return The serialized response
+	 */
+	public static <T> SerializedResponse<T> of(ObjectMapper objectMapper, T value) {
+		try {
+			final byte[] json = objectMapper.writeValueAsBytes(value);
+
+			final ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+			try (GZIPOutputStream gzipStream = new GZIPOutputStream(buffer)) {
+				gzipStream.write(json);
+			}
+			final byte[] gzip = buffer.size() < json.length ? buffer.toByteArray() : null;
+
+			final CRC32 checksum = new CRC32();
+			checksum.update(json);
+			final String etag = "W/\"" + Long.toHexString(checksum.getValue()) + "-" + Integer.toHexString(json.length)
+					+ "\"";
+			return new SerializedResponse<>(value, json, gzip, etag);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to serialize response", e);
+		}
+	}
+
+	/**
+	 * Whether a request's Accept-Encoding header allows the gzip variant.
+	 *
+	 * @param acceptEncoding Accept-Encoding header, may be null
+	 * @return true if a gzip variant exists and the client accepts it
+	 */
+	public boolean isGzipAcceptable(String acceptEncoding) {
+		if (gzip == null || acceptEncoding == null) {
+			return false;
+		}
+
+		for (String coding : acceptEncoding.split(",")) {
+			final String[] parts = coding.trim().split(";");
+			final String name = parts[0].trim();
+			if (!"gzip".equalsIgnoreCase(name) && !"*".equals(name)) {
+				continue;
+			}
+			// "gzip;q=0" explicitly refuses the coding
+			final boolean refused = parts.length > 1 && parts[1].trim().matches("(?i)q=0(\\.0*)?");
+			return !refused;
+		}
+		return false;
+	}
+}
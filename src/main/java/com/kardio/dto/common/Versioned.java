@@ -0,0 +1,27 @@
+package com.kardio.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A cached response together with the version it was loaded at, so a
+ * conditional GET tags the body with the version of the body itself.
+ *
+ * @param <T> Type of the response
+ */
+@Getter
+@AllArgsConstructor
+public class Versioned<T> {
+	private ResourceVersion version;
+	private T value;
+
+	/**
+	 * Whether this was loaded at the given version.
+	 *
+	 * @param current Version read from the database
+	 * @return true if the versions match
+	 */
+	public boolean isAt(ResourceVersion current) {
+		return version.getEtag().equals(current.getEtag());
+	}
+}
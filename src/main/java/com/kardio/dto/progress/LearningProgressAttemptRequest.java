@@ -2,6 +2,8 @@ package com.kardio.dto.progress;
 
 import java.util.UUID;
 
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +17,12 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class LearningProgressAttemptRequest {
+	@NotNull(message = "Vocabulary ID is required")
 	private UUID vocabularyId;
+
+	@NotNull(message = "Attempt result is required")
 	private Boolean isCorrect;
-}
\ No newline at end of file
+
+	@Min(value = 0, message = "Response time cannot be negative")
+	private Integer responseTimeMs;
+}
@@ -1,5 +1,11 @@
 package com.kardio.dto.progress;
 
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,5 +19,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class LearningProgressBatchUpdateRequest {
+	@NotNull(message = "Session ID is required")
+	private UUID sessionId;
+
+	@Valid
+	@NotEmpty(message = "Attempts are required")
+	@Size(max = 500, message = "Cannot record more than 500 attempts at once")
 	private LearningProgressAttemptRequest[] attempts;
 }
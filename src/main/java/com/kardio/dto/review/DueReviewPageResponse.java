@@ -0,0 +1,26 @@
+package com.kardio.dto.review;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Keyset-paginated list of due cards.
+ * Pass nextAfterDueAt and nextAfterVocabularyId back to get the next page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DueReviewPageResponse {
+	private List<DueReviewResponse> content;
+	private Integer size;
+	private Boolean hasMore;
+	private LocalDateTime nextAfterDueAt;
+	private UUID nextAfterVocabularyId;
+}
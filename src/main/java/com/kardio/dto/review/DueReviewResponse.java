@@ -0,0 +1,25 @@
+package com.kardio.dto.review;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a card that is due for review
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DueReviewResponse {
+	private UUID vocabularyId;
+	private UUID moduleId;
+	private String term;
+	private String definition;
+	private LocalDateTime nextReviewAt;
+	private Long overdueMinutes;
+}
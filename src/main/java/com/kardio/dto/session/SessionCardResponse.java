@@ -0,0 +1,30 @@
+package com.kardio.dto.session;
+
+import java.util.UUID;
+
+import com.kardio.entity.enums.DifficultyLevel;
+import com.kardio.entity.enums.LearningStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a card served to a study session
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionCardResponse {
+    private UUID vocabularyId;
+    private String term;
+    private String definition;
+    private String example;
+    private String pronunciation;
+    private String partOfSpeech;
+    private DifficultyLevel difficultyLevel;
+    private LearningStatus status;
+    private Double accuracyRate;
+}
@@ -16,7 +16,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class SessionItemResponse {
-    private UUID id;
+    private Long id;
     private UUID vocabularyId;
     private String term;
     private String definition;
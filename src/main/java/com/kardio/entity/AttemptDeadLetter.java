@@ -0,0 +1,59 @@
+package com.kardio.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A buffered attempt that was acknowledged but could not be persisted, even on
+ * its own. References are plain IDs rather than foreign keys so the row can be
+ * kept when the session or vocabulary it points at is gone.
+ */
+@Entity
+@Table(name = "attempt_dead_letters", indexes = {
+		@Index(name = "idx_attempt_dead_letters_failed_at", columnList = "failed_at") })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttemptDeadLetter {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	@Column(name = "id", updatable = false)
+	private UUID id;
+
+	@Column(name = "session_id", nullable = false)
+	private UUID sessionId;
+
+	@Column(name = "user_id", nullable = false)
+	private UUID userId;
+
+	@Column(name = "vocabulary_id", nullable = false)
+	private UUID vocabularyId;
+
+	@Column(name = "is_correct", nullable = false)
+	private Boolean isCorrect;
+
+	@Column(name = "response_time_ms")
+	private Integer responseTimeMs;
+
+	@Column(name = "error", columnDefinition = "TEXT")
+	private String error;
+
+	@Column(name = "failed_at", nullable = false)
+	private LocalDateTime failedAt;
+}
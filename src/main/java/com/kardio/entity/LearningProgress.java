@@ -8,6 +8,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.kardio.entity.enums.LearningStatus;
+import com.kardio.service.review.ReviewCard;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -37,14 +38,14 @@ import lombok.Setter;
 				@Index(name = "idx_learning_progress_user_id", columnList = "user_id"),
 				@Index(name = "idx_learning_progress_vocabulary_id", columnList = "vocabulary_id"),
 				@Index(name = "idx_learning_progress_status", columnList = "status"),
-				@Index(name = "idx_learning_progress_next_review", columnList = "next_review_at") })
+				@Index(name = "idx_learning_progress_user_next_review", columnList = "user_id, next_review_at, vocabulary_id") })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class LearningProgress {
+public class LearningProgress implements ReviewCard {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.UUID)
@@ -81,6 +82,27 @@ public class LearningProgress {
 	@Column(name = "next_review_at")
 	private LocalDateTime nextReviewAt;
 
+	// Scheduling state maintained by the configured ReviewScheduler
+
+	@Column(name = "ease_factor", nullable = false, columnDefinition = "DOUBLE PRECISION NOT NULL DEFAULT 2.5")
+	@Builder.Default
+	private double easeFactor = 2.5;
+
+	@Column(name = "stability", nullable = false, columnDefinition = "DOUBLE PRECISION NOT NULL DEFAULT 0")
+	private double stability;
+
+	@Column(name = "difficulty", nullable = false, columnDefinition = "DOUBLE PRECISION NOT NULL DEFAULT 0")
+	private double difficulty;
+
+	@Column(name = "interval_minutes", nullable = false, columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+	private int intervalMinutes;
+
+	@Column(name = "repetitions", nullable = false, columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+	private int repetitions;
+
+	@Column(name = "lapses", nullable = false, columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+	private int lapses;
+
 	@CreatedDate
 	@Column(name = "created_at", updatable = false)
 	private LocalDateTime createdAt;
@@ -0,0 +1,59 @@
+package com.kardio.entity;
+
+import java.util.UUID;
+
+import com.kardio.entity.enums.ModuleAccessKind;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Non-public modules a user can access, denormalized from study_modules and
+ * shared_study_modules. There is one OWNER row per live module and one SHARED
+ * row per share while the module's visibility is SHARED; public modules need
+ * no rows. Access checks become a probe of the (user_id, module_id) index.
+ */
+@Entity
+@Table(name = "module_access", uniqueConstraints = {
+		@UniqueConstraint(columnNames = { "user_id", "module_id" }) }, indexes = {
+				@Index(name = "idx_module_access_module_id", columnList = "module_id") })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ModuleAccess {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	@Column(name = "id", updatable = false)
+	private UUID id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "module_id", nullable = false)
+	private StudyModule module;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "access_kind", nullable = false, length = 20)
+	private ModuleAccessKind accessKind;
+}
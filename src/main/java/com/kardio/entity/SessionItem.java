@@ -1,7 +1,6 @@
 package com.kardio.entity;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,6 +15,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
@@ -24,6 +24,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+/**
+ * A single answered card. The table is range-partitioned by month on created_at
+ * and its partitions are managed by SessionItemPartitionManager; ids come from
+ * a pooled sequence so inserts stay JDBC-batchable.
+ */
 @Entity
 @Table(name = "session_items", indexes = { @Index(name = "idx_session_items_session_id", columnList = "session_id"),
 		@Index(name = "idx_session_items_vocabulary_id", columnList = "vocabulary_id") })
@@ -36,9 +41,10 @@ import lombok.Setter;
 public class SessionItem {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "session_items_seq")
+	@SequenceGenerator(name = "session_items_seq", sequenceName = "session_items_id_seq", allocationSize = 50)
 	@Column(name = "id", updatable = false)
-	private UUID id;
+	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "session_id", nullable = false)
@@ -56,7 +62,7 @@ public class SessionItem {
 	private Integer responseTimeMs;
 
 	@CreatedDate
-	@Column(name = "created_at", updatable = false)
+	@Column(name = "created_at", nullable = false, updatable = false)
 	private LocalDateTime createdAt;
 
 	/**
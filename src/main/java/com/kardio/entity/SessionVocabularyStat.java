@@ -0,0 +1,70 @@
+package com.kardio.entity;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Per-session, per-vocabulary attempt tallies maintained as attempts are
+ * recorded, so session analysis never has to scan session items.
+ */
+@Entity
+@Table(name = "session_vocabulary_stats", uniqueConstraints = {
+		@UniqueConstraint(columnNames = { "session_id", "vocabulary_id" }) })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SessionVocabularyStat {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	@Column(name = "id", updatable = false)
+	private UUID id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "session_id", nullable = false)
+	private StudySession session;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "vocabulary_id", nullable = false)
+	private Vocabulary vocabulary;
+
+	@Min(value = 0, message = "Total count cannot be negative")
+	@Column(name = "total_count", nullable = false)
+	@Builder.Default
+	private Integer totalCount = 0;
+
+	@Min(value = 0, message = "Correct count cannot be negative")
+	@Column(name = "correct_count", nullable = false)
+	@Builder.Default
+	private Integer correctCount = 0;
+
+	/**
+	 * Calculate the accuracy rate for this vocabulary within the session
+	 *
+	 * @return Percentage of correct answers (0-100) or 0 if no answers
+	 */
+	public double getAccuracyRate() {
+		if (totalCount == 0) {
+			return 0;
+		}
+		return (double) correctCount / totalCount * 100;
+	}
+}
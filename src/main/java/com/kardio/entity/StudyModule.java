@@ -22,6 +22,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+// The generated search_vector column and its GIN indexes are created by SearchIndexManager
 @Entity
 @Table(name = "study_modules", indexes = { @Index(name = "idx_study_modules_creator_id", columnList = "creator_id"),
 		@Index(name = "idx_study_modules_folder_id", columnList = "folder_id"),
@@ -54,7 +55,13 @@ public class StudyModule extends BaseEntity {
 	@Column(name = "visibility", nullable = false, length = 20)
 	private VisibilityType visibility;
 
+	// Legacy global value, no longer written; per-user times live in UserModuleActivity
 	@Column(name = "last_studied_at")
 	private LocalDateTime lastStudiedAt;
 
+	// Maintained by StudyModuleRepository#adjustVocabularyCount and VocabularyCountReconciler, never by entity writes
+	@Column(name = "vocabulary_count", insertable = false, updatable = false,
+			columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+	private int vocabularyCount;
+
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -78,10 +79,22 @@ public class StudySession {
     @Builder.Default
     private Integer correctItems = 0;
 
+    @Column(name = "response_time_sum_ms", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    @Builder.Default
+    private Long responseTimeSumMs = 0L;
+
+    @Column(name = "response_time_count", nullable = false, columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+    @Builder.Default
+    private Integer responseTimeCount = 0;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long version;
+
     /**
      * Calculate the accuracy rate based on correct and total items
      *
@@ -106,6 +119,18 @@ public class StudySession {
         return Duration.between(startTime, endTime);
     }
 
+    /**
+     * Calculate the average response time of timed attempts
+     *
+     * @return Average response time in milliseconds or 0 if no timed attempts
+     */
+    public double getAverageResponseTimeMs() {
+        if (responseTimeCount == 0) {
+            return 0;
+        }
+        return (double) responseTimeSumMs / responseTimeCount;
+    }
+
     /**
      * End the current study session
      */
@@ -0,0 +1,89 @@
+package com.kardio.entity;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.kardio.entity.enums.SessionType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Daily rollup of a user's study activity per session type, maintained as
+ * sessions start and end and attempts are recorded. Statistics over a date
+ * range read one row per day and type instead of every session.
+ */
+@Entity
+@Table(name = "user_daily_activity", uniqueConstraints = {
+		@UniqueConstraint(columnNames = { "user_id", "activity_date", "session_type" }) })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserDailyActivity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	@Column(name = "id", updatable = false)
+	private UUID id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	@Column(name = "activity_date", nullable = false)
+	private LocalDate activityDate;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "session_type", nullable = false, length = 50)
+	private SessionType sessionType;
+
+	@Min(value = 0, message = "Seconds studied cannot be negative")
+	@Column(name = "seconds_studied", nullable = false)
+	@Builder.Default
+	private Long secondsStudied = 0L;
+
+	@Min(value = 0, message = "Attempts cannot be negative")
+	@Column(name = "attempts", nullable = false)
+	@Builder.Default
+	private Integer attempts = 0;
+
+	@Min(value = 0, message = "Correct answers cannot be negative")
+	@Column(name = "correct_answers", nullable = false)
+	@Builder.Default
+	private Integer correctAnswers = 0;
+
+	@Min(value = 0, message = "Sessions cannot be negative")
+	@Column(name = "sessions", nullable = false)
+	@Builder.Default
+	private Integer sessions = 0;
+
+	/**
+	 * Calculate the accuracy rate of the day's attempts
+	 *
+	 * @return Percentage of correct answers (0-100) or 0 if no attempts
+	 */
+	public double getAccuracyRate() {
+		if (attempts == 0) {
+			return 0;
+		}
+		return (double) correctAnswers / attempts * 100;
+	}
+}
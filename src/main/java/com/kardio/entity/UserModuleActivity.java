@@ -0,0 +1,59 @@
+package com.kardio.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * When a user last studied a module and how many sessions they started on it.
+ * Kept per user so starting a session never writes the shared module row.
+ */
+@Entity
+@Table(name = "user_module_activity", uniqueConstraints = {
+		@UniqueConstraint(columnNames = { "user_id", "module_id" }) }, indexes = {
+				@Index(name = "idx_user_module_activity_recent", columnList = "user_id, last_studied_at DESC") })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserModuleActivity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	@Column(name = "id", updatable = false)
+	private UUID id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "module_id", nullable = false)
+	private StudyModule module;
+
+	@Column(name = "last_studied_at", nullable = false)
+	private LocalDateTime lastStudiedAt;
+
+	@Min(value = 0, message = "Session count cannot be negative")
+	@Column(name = "session_count", nullable = false)
+	@Builder.Default
+	private Integer sessionCount = 0;
+}
@@ -0,0 +1,60 @@
+package com.kardio.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Materialized learning statistics of a user, keyed by user ID.
+ * Counters are adjusted by deltas as attempts change card statuses and are
+ * periodically reconciled against learning_progress, so the dashboard reads a
+ * single row regardless of how many cards the user has.
+ */
+@Entity
+@Table(name = "user_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStats {
+
+	@Id
+	@Column(name = "user_id", updatable = false)
+	private UUID userId;
+
+	@Column(name = "not_studied_count", nullable = false)
+	@Builder.Default
+	private Integer notStudiedCount = 0;
+
+	@Column(name = "learning_count", nullable = false)
+	@Builder.Default
+	private Integer learningCount = 0;
+
+	@Column(name = "mastered_count", nullable = false)
+	@Builder.Default
+	private Integer masteredCount = 0;
+
+	@Column(name = "total_correct", nullable = false)
+	@Builder.Default
+	private Long totalCorrect = 0L;
+
+	@Column(name = "total_incorrect", nullable = false)
+	@Builder.Default
+	private Long totalIncorrect = 0L;
+
+	@Column(name = "last_studied_at")
+	private LocalDateTime lastStudiedAt;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+}
@@ -0,0 +1,23 @@
+package com.kardio.entity.enums;
+
+/**
+ * Enum representing why a user can access a study module
+ */
+public enum ModuleAccessKind {
+	OWNER("owner"), SHARED("shared");
+
+	private final String value;
+
+	ModuleAccessKind(String value) {
+		this.value = value;
+	}
+
+	public String getValue() {
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return value;
+	}
+}
@@ -0,0 +1,41 @@
+package com.kardio.entity.enums;
+
+/**
+ * Enum representing the available spaced-repetition algorithms
+ */
+public enum ReviewAlgorithm {
+	SM2("sm2"), FSRS("fsrs");
+
+	private final String value;
+
+	ReviewAlgorithm(String value) {
+		this.value = value;
+	}
+
+	public String getValue() {
+		return value;
+	}
+
+	/**
+	 * Resolve an algorithm from its setting value
+	 *
+	 * @param value the setting value (case-insensitive)
+	 * @return the matching algorithm or null if none matches
+	 */
+	public static ReviewAlgorithm fromValue(String value) {
+		if (value == null) {
+			return null;
+		}
+		for (ReviewAlgorithm algorithm : values()) {
+			if (algorithm.value.equalsIgnoreCase(value.trim())) {
+				return algorithm;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return value;
+	}
+}
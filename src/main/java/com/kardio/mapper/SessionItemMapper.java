@@ -2,6 +2,7 @@ package com.kardio.mapper;
 
 import org.springframework.stereotype.Component;
 
+import com.kardio.dto.progress.LearningProgressAttemptRequest;
 import com.kardio.dto.session.SessionItemResponse;
 import com.kardio.dto.session.StudySessionRecordAttemptRequest;
 import com.kardio.entity.SessionItem;
@@ -95,4 +96,30 @@ public class SessionItemMapper extends AbstractGenericMapper<SessionItem, Sessio
             .responseTimeMs(request.getResponseTimeMs())
             .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a new SessionItem from a batched attempt.
+     *
+     * @param session    The study session
+     * @param vocabulary The vocabulary being studied
+     * @param attempt    The attempt from a batch request
+     * @return A new SessionItem entity
+     */
+    public SessionItem createFromAttempt(
+            StudySession session,
+            Vocabulary vocabulary,
+            LearningProgressAttemptRequest attempt) {
+
+        if (session == null || vocabulary == null || attempt == null) {
+            return null;
+        }
+
+        return SessionItem
+            .builder()
+            .session(session)
+            .vocabulary(vocabulary)
+            .isCorrect(attempt.getIsCorrect())
+            .responseTimeMs(attempt.getResponseTimeMs())
+            .build();
+    }
+}
@@ -40,7 +40,7 @@ public class StudyModuleMapper extends AbstractGenericMapper<StudyModule, StudyM
             .lastStudiedAt(entity.getLastStudiedAt())
             .createdAt(entity.getCreatedAt())
             .creator(userMapper.toDto(entity.getCreator()))
-            .vocabularyCount(0) // This needs to be set separately
+            .vocabularyCount(entity.getVocabularyCount())
             .build();
 
         if (entity.getFolder() != null) {
@@ -135,11 +135,10 @@ public class StudyModuleMapper extends AbstractGenericMapper<StudyModule, StudyM
     /**
      * Maps StudyModule to a summary response.
      *
-     * @param module          The study module to map
-     * @param vocabularyCount Count of vocabularies in the module
+     * @param module The study module to map
      * @return A summary response DTO
      */
-    public StudyModuleSummaryResponse toSummaryResponse(StudyModule module, Integer vocabularyCount) {
+    public StudyModuleSummaryResponse toSummaryResponse(StudyModule module) {
         if (module == null) {
             return null;
         }
@@ -149,7 +148,7 @@ public class StudyModuleMapper extends AbstractGenericMapper<StudyModule, StudyM
             .id(module.getId())
             .name(module.getName())
             .visibility(module.getVisibility())
-            .vocabularyCount(vocabularyCount)
+            .vocabularyCount(module.getVocabularyCount())
             .creator(userMapper.toDto(module.getCreator()))
             .build();
     }
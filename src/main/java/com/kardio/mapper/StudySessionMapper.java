@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.springframework.stereotype.Component;
 
+import com.kardio.dto.session.SessionCardResponse;
 import com.kardio.dto.session.SessionItemResponse;
 import com.kardio.dto.session.StudySessionDetailedResponse;
 import com.kardio.dto.session.StudySessionResponse;
@@ -12,6 +13,8 @@ import com.kardio.entity.StudyModule;
 import com.kardio.entity.StudySession;
 import com.kardio.entity.User;
 import com.kardio.entity.enums.SessionType;
+import com.kardio.service.session.ActiveSession;
+import com.kardio.service.session.SessionCard;
 
 import lombok.RequiredArgsConstructor;
 
@@ -106,6 +109,58 @@ public class StudySessionMapper extends AbstractGenericMapper<StudySession, Stud
         return StudySession.builder().user(user).module(module).sessionType(sessionType).build();
     }
 
+    /**
+     * Maps a registered active session to a response.
+     *
+     * @param session The active session entry
+     * @return A study session response
+     */
+    public StudySessionResponse toActiveSessionResponse(ActiveSession session) {
+        if (session == null) {
+            return null;
+        }
+
+        final int totalItems = session.getTotalItems();
+        final int correctItems = session.getCorrectItems();
+
+        return StudySessionResponse
+            .builder()
+            .id(session.getSessionId())
+            .moduleId(session.getModuleId())
+            .moduleName(session.getModuleName())
+            .sessionType(session.getSessionType())
+            .startTime(session.getStartTime())
+            .totalItems(totalItems)
+            .correctItems(correctItems)
+            .accuracyRate(totalItems > 0 ? (double) correctItems / totalItems * 100 : 0.0)
+            .build();
+    }
+
+    /**
+     * Maps a prefetched session card to a response.
+     *
+     * @param card The session card
+     * @return A session card response
+     */
+    public SessionCardResponse toCardResponse(SessionCard card) {
+        if (card == null) {
+            return null;
+        }
+
+        return SessionCardResponse
+            .builder()
+            .vocabularyId(card.getVocabularyId())
+            .term(card.getTerm())
+            .definition(card.getDefinition())
+            .example(card.getExample())
+            .pronunciation(card.getPronunciation())
+            .partOfSpeech(card.getPartOfSpeech())
+            .difficultyLevel(card.getDifficultyLevel())
+            .status(card.getStatus())
+            .accuracyRate(card.getAccuracyRate())
+            .build();
+    }
+
     /**
      * Maps a StudySession to a detailed response with session items.
      *
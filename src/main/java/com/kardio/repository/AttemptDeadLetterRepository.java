@@ -0,0 +1,15 @@
+package com.kardio.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.kardio.entity.AttemptDeadLetter;
+
+/**
+ * Repository for AttemptDeadLetter entity.
+ */
+@Repository
+public interface AttemptDeadLetterRepository extends JpaRepository<AttemptDeadLetter, UUID> {
+}
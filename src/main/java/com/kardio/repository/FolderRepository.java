@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.kardio.entity.Folder;
+import com.kardio.repository.projection.ResourceVersionView;
 
 /**
  * Repository for Folder entity.
@@ -52,6 +53,15 @@ public interface FolderRepository extends JpaRepository<Folder, UUID> {
      */
     Page<Folder> findByParentFolderId(UUID parentFolderId, Pageable pageable);
 
+    /**
+     * Checks if a folder exists and belongs to a user.
+     *
+     * @param id     Folder ID
+     * @param userId User ID
+     * @return true if the user owns the folder
+     */
+    boolean existsByIdAndUserId(UUID id, UUID userId);
+
     /**
      * Counts modules per folder for a user.
      * This is a native query that returns [folder_id, module_count] pairs.
@@ -83,4 +93,22 @@ public interface FolderRepository extends JpaRepository<Folder, UUID> {
      */
     @Query("SELECT COUNT(f) > 0 FROM Folder f WHERE f.parentFolder.id = :folderId AND f.deletedAt IS NULL")
     boolean hasSubfolders(@Param("folderId") UUID folderId);
-}
\ No newline at end of file
+
+    /**
+     * Gets the version of a user's folder hierarchy: their folders plus the
+     * modules that are counted in them, deletions included.
+     *
+     * @param userId User ID
+     * @return Latest change and number of live folders and filed modules
+     */
+    @Query(
+        value = "SELECT GREATEST("
+                + "(SELECT MAX(GREATEST(f.updated_at, f.deleted_at)) FROM folders f WHERE f.user_id = :userId), "
+                + "(SELECT MAX(GREATEST(m.updated_at, m.deleted_at)) FROM study_modules m "
+                + "WHERE m.creator_id = :userId)) AS lastModified, "
+                + "(SELECT COUNT(*) FROM folders f WHERE f.user_id = :userId AND f.deleted_at IS NULL) "
+                + "+ (SELECT COUNT(*) FROM study_modules m WHERE m.creator_id = :userId AND m.deleted_at IS NULL "
+                + "AND m.folder_id IS NOT NULL) AS itemCount",
+        nativeQuery = true)
+    ResourceVersionView findHierarchyVersion(@Param("userId") UUID userId);
+}
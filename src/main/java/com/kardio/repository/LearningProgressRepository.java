@@ -1,17 +1,24 @@
 package com.kardio.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.kardio.entity.LearningProgress;
 import com.kardio.entity.enums.LearningStatus;
+import com.kardio.repository.projection.DueReviewView;
+import com.kardio.repository.projection.LearningProgressBatchScheduleView;
+import com.kardio.repository.projection.LearningProgressScheduleView;
+import com.kardio.service.review.ReviewCardView;
 
 /**
  * Repository for LearningProgress entity.
@@ -84,4 +91,138 @@ public interface LearningProgressRepository extends JpaRepository<LearningProgre
     List<Object[]> getBatchLearningStatus(
             @Param("userId") UUID userId,
             @Param("vocabularyIds") List<UUID> vocabularyIds);
-}
\ No newline at end of file
+
+    /**
+     * Finds the scheduling state of a card without loading the entity.
+     *
+     * @param vocabularyId Vocabulary ID
+     * @param userId       User ID
+     * @return Optional containing the scheduling state if progress exists
+     */
+    Optional<LearningProgressScheduleView> findScheduleByVocabularyIdAndUserId(UUID vocabularyId, UUID userId);
+
+    /**
+     * Finds the scheduling state of several cards of a user without loading the
+     * entities.
+     *
+     * @param userId        User ID
+     * @param vocabularyIds Vocabulary IDs
+     * @return Scheduling state of the cards that have progress
+     */
+    @Query("SELECT lp.vocabulary.id AS vocabularyId, lp.status AS status, lp.correctCount AS correctCount, "
+            + "lp.incorrectCount AS incorrectCount, lp.lastStudiedAt AS lastStudiedAt, "
+            + "lp.easeFactor AS easeFactor, lp.stability AS stability, lp.difficulty AS difficulty, "
+            + "lp.intervalMinutes AS intervalMinutes, lp.repetitions AS repetitions, lp.lapses AS lapses "
+            + "FROM LearningProgress lp WHERE lp.user.id = :userId AND lp.vocabulary.id IN :vocabularyIds")
+    List<LearningProgressBatchScheduleView> findSchedulesByUserIdAndVocabularyIdIn(
+            @Param("userId") UUID userId,
+            @Param("vocabularyIds") Collection<UUID> vocabularyIds);
+
+    /**
+     * Records the attempts on a card with a single upsert.
+     * Creates the progress row on the first attempt, otherwise increments the
+     * counters, recomputes the status and stores the scheduling state computed
+     * by the caller. The update only applies if the row still has the expected
+     * number of attempts, so a concurrent attempt cannot be overwritten by a
+     * schedule computed from stale state.
+     *
+     * @param userId           User ID
+     * @param vocabularyId     Vocabulary ID
+     * @param correctDelta     Number of correct attempts to add
+     * @param incorrectDelta   Number of incorrect attempts to add
+     * @param now              Attempt time
+     * @param nextReviewAt     Next review time
+     * @param card             Scheduling state after the attempts
+     * @param expectedAttempts Number of attempts the state was computed from
+     * @return 1 if the row was written, 0 if it changed concurrently
+     */
+    @Modifying
+    @Query(
+        value = "INSERT INTO learning_progress AS lp (id, user_id, vocabulary_id, status, correct_count, "
+                + "incorrect_count, last_studied_at, next_review_at, ease_factor, stability, difficulty, "
+                + "interval_minutes, repetitions, lapses, created_at, updated_at) "
+                + "VALUES (gen_random_uuid(), :userId, :vocabularyId, "
+                + "CASE WHEN :correctDelta >= 5 AND :correctDelta * 100.0 >= 90 * (:correctDelta + :incorrectDelta) "
+                + "THEN 'MASTERED' ELSE 'LEARNING' END, "
+                + ":correctDelta, :incorrectDelta, :now, :nextReviewAt, "
+                + ":#{#card.easeFactor}, :#{#card.stability}, :#{#card.difficulty}, :#{#card.intervalMinutes}, "
+                + ":#{#card.repetitions}, :#{#card.lapses}, :now, :now) "
+                + "ON CONFLICT (user_id, vocabulary_id) DO UPDATE SET "
+                + "correct_count = lp.correct_count + EXCLUDED.correct_count, "
+                + "incorrect_count = lp.incorrect_count + EXCLUDED.incorrect_count, "
+                + "last_studied_at = EXCLUDED.last_studied_at, "
+                + "next_review_at = EXCLUDED.next_review_at, "
+                + "ease_factor = EXCLUDED.ease_factor, stability = EXCLUDED.stability, "
+                + "difficulty = EXCLUDED.difficulty, interval_minutes = EXCLUDED.interval_minutes, "
+                + "repetitions = EXCLUDED.repetitions, lapses = EXCLUDED.lapses, "
+                + "status = CASE WHEN lp.correct_count + EXCLUDED.correct_count >= 5 "
+                + "AND (lp.correct_count + EXCLUDED.correct_count) * 100.0 >= 90 * (lp.correct_count "
+                + "+ lp.incorrect_count + EXCLUDED.correct_count + EXCLUDED.incorrect_count) "
+                + "THEN 'MASTERED' ELSE 'LEARNING' END, "
+                + "updated_at = EXCLUDED.updated_at "
+                + "WHERE COALESCE(lp.correct_count, 0) + COALESCE(lp.incorrect_count, 0) = :expectedAttempts",
+        nativeQuery = true)
+    int upsertAttempts(
+            @Param("userId") UUID userId,
+            @Param("vocabularyId") UUID vocabularyId,
+            @Param("correctDelta") int correctDelta,
+            @Param("incorrectDelta") int incorrectDelta,
+            @Param("now") LocalDateTime now,
+            @Param("nextReviewAt") LocalDateTime nextReviewAt,
+            @Param("card") ReviewCardView card,
+            @Param("expectedAttempts") int expectedAttempts);
+
+    /**
+     * Finds cards due before a time, most overdue first, in modules the user can
+     * still access. Pages with a keyset on (next_review_at, vocabulary_id) so
+     * every page is a range scan of the (user_id, next_review_at) index.
+     *
+     * @param userId            User ID
+     * @param dueBefore         Upper bound for the next review time (inclusive)
+     * @param afterDueAt        Next review time of the last card of the previous page
+     * @param afterVocabularyId Vocabulary ID of the last card of the previous page
+     * @param limit             Maximum number of cards to return
+     * @return Due cards ordered by next review time
+     */
+    @Query(
+        value = "SELECT lp.vocabulary_id AS \"vocabularyId\", v.module_id AS \"moduleId\", v.term AS \"term\", "
+                + "v.definition AS \"definition\", lp.next_review_at AS \"nextReviewAt\" "
+                + "FROM learning_progress lp "
+                + "JOIN vocabularies v ON v.id = lp.vocabulary_id AND v.deleted_at IS NULL "
+                + "JOIN study_modules m ON m.id = v.module_id AND m.deleted_at IS NULL "
+                + "WHERE lp.user_id = :userId AND lp.next_review_at <= :dueBefore "
+                + "AND (lp.next_review_at, lp.vocabulary_id) > (:afterDueAt, :afterVocabularyId) "
+                + "AND (m.visibility = 'PUBLIC' OR EXISTS (SELECT 1 FROM "
+                + "module_access a WHERE a.user_id = :userId AND a.module_id = m.id)) "
+                + "ORDER BY lp.next_review_at, lp.vocabulary_id LIMIT :limit",
+        nativeQuery = true)
+    List<DueReviewView> findDueReviews(
+            @Param("userId") UUID userId,
+            @Param("dueBefore") LocalDateTime dueBefore,
+            @Param("afterDueAt") LocalDateTime afterDueAt,
+            @Param("afterVocabularyId") UUID afterVocabularyId,
+            @Param("limit") int limit);
+
+    /**
+     * Finds the review queue entries of specific cards in modules the user can
+     * still access.
+     *
+     * @param userId        User ID
+     * @param vocabularyIds Vocabulary IDs
+     * @return Queue entries of the cards that have a next review time
+     */
+    @Query(
+        value = "SELECT lp.vocabulary_id AS \"vocabularyId\", v.module_id AS \"moduleId\", v.term AS \"term\", "
+                + "v.definition AS \"definition\", lp.next_review_at AS \"nextReviewAt\" "
+                + "FROM learning_progress lp "
+                + "JOIN vocabularies v ON v.id = lp.vocabulary_id AND v.deleted_at IS NULL "
+                + "JOIN study_modules m ON m.id = v.module_id AND m.deleted_at IS NULL "
+                + "WHERE lp.user_id = :userId AND lp.vocabulary_id IN (:vocabularyIds) "
+                + "AND lp.next_review_at IS NOT NULL "
+                + "AND (m.visibility = 'PUBLIC' OR EXISTS (SELECT 1 FROM "
+                + "module_access a WHERE a.user_id = :userId AND a.module_id = m.id))",
+        nativeQuery = true)
+    List<DueReviewView> findReviewEntries(
+            @Param("userId") UUID userId,
+            @Param("vocabularyIds") Collection<UUID> vocabularyIds);
+}
@@ -0,0 +1,106 @@
+package com.kardio.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.kardio.entity.ModuleAccess;
+
+/**
+ * Repository for ModuleAccess entity.
+ */
+@Repository
+public interface ModuleAccessRepository extends JpaRepository<ModuleAccess, UUID> {
+
+    /**
+     * Checks if a user has an access row for a module.
+     *
+     * @param userId   User ID
+     * @param moduleId Module ID
+     * @return true if the user owns the module or it is shared with them
+     */
+    boolean existsByUserIdAndModuleId(UUID userId, UUID moduleId);
+
+    /**
+     * Grants owner access, replacing a share row of the same user.
+     *
+     * @param userId   Creator ID
+     * @param moduleId Module ID
+     * @return Number of affected rows
+     */
+    @Modifying
+    @Query(
+        value = "INSERT INTO module_access AS a (id, user_id, module_id, access_kind) "
+                + "VALUES (gen_random_uuid(), :userId, :moduleId, 'OWNER') "
+                + "ON CONFLICT (user_id, module_id) DO UPDATE SET access_kind = 'OWNER'",
+        nativeQuery = true)
+    int grantOwner(@Param("userId") UUID userId, @Param("moduleId") UUID moduleId);
+
+    /**
+     * Grants shared access unless the user already has access.
+     *
+     * @param userId   User ID
+     * @param moduleId Module ID
+     * @return Number of inserted rows
+     */
+    @Modifying
+    @Query(
+        value = "INSERT INTO module_access (id, user_id, module_id, access_kind) "
+                + "VALUES (gen_random_uuid(), :userId, :moduleId, 'SHARED') "
+                + "ON CONFLICT (user_id, module_id) DO NOTHING",
+        nativeQuery = true)
+    int grantShare(@Param("userId") UUID userId, @Param("moduleId") UUID moduleId);
+
+    /**
+     * Grants shared access to every user the module is shared with.
+     *
+     * @param moduleId Module ID
+     * @return Number of inserted rows
+     */
+    @Modifying
+    @Query(
+        value = "INSERT INTO module_access (id, user_id, module_id, access_kind) "
+                + "SELECT gen_random_uuid(), s.user_id, s.study_module_id, 'SHARED' FROM shared_study_modules s "
+                + "WHERE s.study_module_id = :moduleId "
+                + "ON CONFLICT (user_id, module_id) DO NOTHING",
+        nativeQuery = true)
+    int grantShares(@Param("moduleId") UUID moduleId);
+
+    /**
+     * Revokes the shared access of one user.
+     *
+     * @param userId   User ID
+     * @param moduleId Module ID
+     * @return Number of deleted rows
+     */
+    @Modifying
+    @Query(
+        value = "DELETE FROM module_access WHERE user_id = :userId AND module_id = :moduleId "
+                + "AND access_kind = 'SHARED'",
+        nativeQuery = true)
+    int revokeShare(@Param("userId") UUID userId, @Param("moduleId") UUID moduleId);
+
+    /**
+     * Revokes the shared access of every user.
+     *
+     * @param moduleId Module ID
+     * @return Number of deleted rows
+     */
+    @Modifying
+    @Query(value = "DELETE FROM module_access WHERE module_id = :moduleId AND access_kind = 'SHARED'", nativeQuery = true)
+    int revokeShares(@Param("moduleId") UUID moduleId);
+
+    /**
+     * Removes all access rows of a module.
+     *
+     * @param moduleId Module ID
+     * @return Number of deleted rows
+     */
+    @Modifying
+    @Query(value = "DELETE FROM module_access WHERE module_id = :moduleId", nativeQuery = true)
+    int revokeAll(@Param("moduleId") UUID moduleId);
+}
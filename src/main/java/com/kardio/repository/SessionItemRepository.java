@@ -1,5 +1,6 @@
 package com.kardio.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,7 +13,7 @@ import org.springframework.stereotype.Repository;
 import com.kardio.entity.SessionItem;
 
 @Repository
-public interface SessionItemRepository extends JpaRepository<SessionItem, UUID> {
+public interface SessionItemRepository extends JpaRepository<SessionItem, Long> {
 
     /**
      * Finds items by session ID.
@@ -22,6 +23,17 @@ public interface SessionItemRepository extends JpaRepository<SessionItem, UUID>
      */
     List<SessionItem> findBySessionId(UUID sessionId);
 
+    /**
+     * Finds items by session ID created at or after the given time.
+     * Passing the session start time lets PostgreSQL prune the monthly
+     * partitions that cannot contain the session's items.
+     *
+     * @param sessionId Session ID
+     * @param since     Lower bound for the creation time
+     * @return List of session items
+     */
+    List<SessionItem> findBySessionIdAndCreatedAtGreaterThanEqual(UUID sessionId, LocalDateTime since);
+
     /**
      * Finds items by session ID and vocabulary ID.
      *
@@ -65,6 +77,17 @@ public interface SessionItemRepository extends JpaRepository<SessionItem, UUID>
     @Query("SELECT AVG(i.responseTimeMs) FROM SessionItem i WHERE i.session.id = :sessionId AND i.responseTimeMs IS NOT NULL")
     Double getAverageResponseTimeBySessionId(@Param("sessionId") UUID sessionId);
 
+    /**
+     * Aggregates the items of a session per vocabulary together with the terms.
+     * Used for sessions recorded before per-vocabulary tallies existed.
+     *
+     * @param sessionId Session ID
+     * @return List of arrays containing [term, totalCount, correctCount]
+     */
+    @Query("SELECT v.term, COUNT(i), SUM(CASE WHEN i.isCorrect = true THEN 1 ELSE 0 END) "
+            + "FROM SessionItem i JOIN i.vocabulary v WHERE i.session.id = :sessionId GROUP BY v.id, v.term")
+    List<Object[]> aggregateTermStatsBySessionId(@Param("sessionId") UUID sessionId);
+
     /**
      * Deletes items by session ID.
      *
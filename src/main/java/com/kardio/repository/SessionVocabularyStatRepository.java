@@ -0,0 +1,61 @@
+package com.kardio.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.kardio.entity.SessionVocabularyStat;
+
+/**
+ * Repository for SessionVocabularyStat entity.
+ */
+@Repository
+public interface SessionVocabularyStatRepository extends JpaRepository<SessionVocabularyStat, UUID> {
+
+    /**
+     * Adds attempts to the tally of a vocabulary within a session, creating the
+     * tally on first use.
+     *
+     * @param sessionId    Session ID
+     * @param vocabularyId Vocabulary ID
+     * @param totalDelta   Number of attempts to add
+     * @param correctDelta Number of correct attempts to add
+     * @return Number of affected rows
+     */
+    @Modifying
+    @Query(
+        value = "INSERT INTO session_vocabulary_stats AS s (id, session_id, vocabulary_id, total_count, correct_count) "
+                + "VALUES (gen_random_uuid(), :sessionId, :vocabularyId, :totalDelta, :correctDelta) "
+                + "ON CONFLICT (session_id, vocabulary_id) DO UPDATE SET "
+                + "total_count = s.total_count + EXCLUDED.total_count, "
+                + "correct_count = s.correct_count + EXCLUDED.correct_count",
+        nativeQuery = true)
+    int incrementStats(
+            @Param("sessionId") UUID sessionId,
+            @Param("vocabularyId") UUID vocabularyId,
+            @Param("totalDelta") int totalDelta,
+            @Param("correctDelta") int correctDelta);
+
+    /**
+     * Gets the per-vocabulary tallies of a session together with the terms.
+     *
+     * @param sessionId Session ID
+     * @return List of arrays containing [term, totalCount, correctCount]
+     */
+    @Query("SELECT v.term, s.totalCount, s.correctCount FROM SessionVocabularyStat s JOIN s.vocabulary v "
+            + "WHERE s.session.id = :sessionId")
+    List<Object[]> findTermStatsBySessionId(@Param("sessionId") UUID sessionId);
+
+    /**
+     * Deletes tallies by session ID.
+     *
+     * @param sessionId Session ID
+     */
+    @Modifying
+    void deleteBySessionId(UUID sessionId);
+}
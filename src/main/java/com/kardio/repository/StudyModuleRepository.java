@@ -1,17 +1,20 @@
 package com.kardio.repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.kardio.entity.StudyModule;
 import com.kardio.entity.enums.VisibilityType;
+import com.kardio.repository.projection.ModuleVersionView;
 
 /**
  * Repository for StudyModule entity.
@@ -65,29 +68,69 @@ public interface StudyModuleRepository extends JpaRepository<StudyModule, UUID>
     Page<StudyModule> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
     /**
-     * Searches modules by name or description (case insensitive).
+     * Searches modules by name or description with full-text search, best
+     * matches first. Uses the GIN index on the generated search_vector column;
+     * the term is parsed as web search syntax with the same text search
+     * configuration the column is built with.
      *
      * @param term     Search term
-     * @param pageable Pagination information
-     * @return Page of study modules
+     * @param pageable Pagination information, its sort is ignored
+     * @return Page of study modules ordered by rank
      */
-    @Query("SELECT m FROM StudyModule m WHERE " + "LOWER(m.name) LIKE LOWER(CONCAT('%', :term, '%')) OR "
-            + "LOWER(m.description) LIKE LOWER(CONCAT('%', :term, '%'))")
+    @Query(
+        value = "SELECT m.* FROM study_modules m "
+                + "WHERE m.search_vector @@ websearch_to_tsquery('english', :term) AND m.deleted_at IS NULL "
+                + "ORDER BY ts_rank(m.search_vector, websearch_to_tsquery('english', :term)) DESC, m.id",
+        countQuery = "SELECT COUNT(*) FROM study_modules m "
+                + "WHERE m.search_vector @@ websearch_to_tsquery('english', :term) AND m.deleted_at IS NULL",
+        nativeQuery = true)
     Page<StudyModule> searchByNameOrDescription(@Param("term") String term, Pageable pageable);
 
     /**
-     * Searches public modules by name or description (case insensitive).
+     * Searches public modules by name or description with full-text search,
+     * best matches first. The visibility is part of the query text so the
+     * partial GIN index over public modules can serve it.
      *
-     * @param term       Search term
-     * @param visibility Visibility type
-     * @param pageable   Pagination information
-     * @return Page of study modules
+     * @param term     Search term
+     * @param pageable Pagination information, its sort is ignored
+     * @return Page of public study modules ordered by rank
      */
-    @Query("SELECT m FROM StudyModule m WHERE " + "(LOWER(m.name) LIKE LOWER(CONCAT('%', :term, '%')) OR "
-            + "LOWER(m.description) LIKE LOWER(CONCAT('%', :term, '%'))) AND " + "m.visibility = :visibility")
-    Page<StudyModule> searchPublicByNameOrDescription(
+    @Query(
+        value = "SELECT m.* FROM study_modules m "
+                + "WHERE m.search_vector @@ websearch_to_tsquery('english', :term) "
+                + "AND m.visibility = 'PUBLIC' AND m.deleted_at IS NULL "
+                + "ORDER BY ts_rank(m.search_vector, websearch_to_tsquery('english', :term)) DESC, m.id",
+        countQuery = "SELECT COUNT(*) FROM study_modules m "
+                + "WHERE m.search_vector @@ websearch_to_tsquery('english', :term) "
+                + "AND m.visibility = 'PUBLIC' AND m.deleted_at IS NULL",
+        nativeQuery = true)
+    Page<StudyModule> searchPublicByNameOrDescription(@Param("term") String term, Pageable pageable);
+
+    /**
+     * Searches the modules a user can access by name or description with
+     * full-text search, best matches first. A module is accessible if it is
+     * public or module_access lists it for the user; the predicate is part of
+     * both queries so pages and totals only count accessible modules.
+     *
+     * @param term     Search term
+     * @param userId   User ID
+     * @param pageable Pagination information, its sort is ignored
+     * @return Page of accessible study modules ordered by rank
+     */
+    @Query(
+        value = "SELECT m.* FROM study_modules m "
+                + "WHERE m.search_vector @@ websearch_to_tsquery('english', :term) AND m.deleted_at IS NULL "
+                + "AND (m.visibility = 'PUBLIC' OR EXISTS "
+                + "(SELECT 1 FROM module_access a WHERE a.user_id = :userId AND a.module_id = m.id)) "
+                + "ORDER BY ts_rank(m.search_vector, websearch_to_tsquery('english', :term)) DESC, m.id",
+        countQuery = "SELECT COUNT(*) FROM study_modules m "
+                + "WHERE m.search_vector @@ websearch_to_tsquery('english', :term) AND m.deleted_at IS NULL "
+                + "AND (m.visibility = 'PUBLIC' OR EXISTS "
+                + "(SELECT 1 FROM module_access a WHERE a.user_id = :userId AND a.module_id = m.id))",
+        nativeQuery = true)
+    Page<StudyModule> searchAccessibleByNameOrDescription(
             @Param("term") String term,
-            @Param("visibility") VisibilityType visibility,
+            @Param("userId") UUID userId,
             Pageable pageable);
 
     /**
@@ -128,40 +171,29 @@ public interface StudyModuleRepository extends JpaRepository<StudyModule, UUID>
     Page<StudyModule> findByCreatorIdAndFolderId(UUID creatorId, UUID folderId, Pageable pageable);
 
     /**
-     * Finds modules accessible to a user (created by them, public, or shared with
-     * them).
+     * Finds modules accessible to a user (public, or listed for them in
+     * module_access as owner or share recipient).
      *
      * @param userId   User ID
      * @param pageable Pagination information
      * @return Page of accessible study modules
      */
-    @Query("SELECT DISTINCT m FROM StudyModule m LEFT JOIN SharedStudyModule s ON m.id = s.studyModule.id "
-            + "WHERE m.creator.id = :userId OR m.visibility = 'PUBLIC' OR s.user.id = :userId")
+    @Query("SELECT m FROM StudyModule m WHERE m.visibility = 'PUBLIC' OR EXISTS (SELECT 1 FROM ModuleAccess a "
+            + "WHERE a.user.id = :userId AND a.module.id = m.id)")
     Page<StudyModule> findAccessibleToUser(@Param("userId") UUID userId, Pageable pageable);
 
     /**
-     * Checks if a module is accessible to a user (created by them, public, or
-     * shared with them).
+     * Checks if a module is accessible to a user (public, or listed for them in
+     * module_access). A primary key read plus one (user_id, module_id) probe.
      *
      * @param moduleId Module ID
      * @param userId   User ID
      * @return true if the module is accessible, false otherwise
      */
-    @Query("SELECT COUNT(m) > 0 FROM StudyModule m LEFT JOIN SharedStudyModule s ON m.id = s.studyModule.id "
-            + "WHERE m.id = :moduleId AND (m.creator.id = :userId OR m.visibility = 'PUBLIC' OR s.user.id = :userId)")
+    @Query("SELECT COUNT(m) > 0 FROM StudyModule m WHERE m.id = :moduleId AND (m.visibility = 'PUBLIC' "
+            + "OR EXISTS (SELECT 1 FROM ModuleAccess a WHERE a.user.id = :userId AND a.module.id = m.id))")
     boolean isAccessibleToUser(@Param("moduleId") UUID moduleId, @Param("userId") UUID userId);
 
-    /**
-     * Gets recent modules for a user.
-     *
-     * @param userId User ID
-     * @param limit  Maximum number of modules to return
-     * @return List of recent study modules
-     */
-    @Query("SELECT m FROM StudyModule m " + "WHERE m.creator.id = :userId OR m.visibility = 'PUBLIC' "
-            + "ORDER BY m.lastStudiedAt DESC NULLS LAST")
-    List<StudyModule> findRecentModules(@Param("userId") UUID userId, Pageable pageable);
-
     /**
      * Finds modules by IDs that are accessible to a user.
      *
@@ -169,7 +201,36 @@ public interface StudyModuleRepository extends JpaRepository<StudyModule, UUID>
      * @param userId    User ID
      * @return List of accessible study modules
      */
-    @Query("SELECT m FROM StudyModule m LEFT JOIN SharedStudyModule s ON m.id = s.studyModule.id "
-            + "WHERE m.id IN :moduleIds AND (m.creator.id = :userId OR m.visibility = 'PUBLIC' OR s.user.id = :userId)")
+    @Query("SELECT m FROM StudyModule m WHERE m.id IN :moduleIds AND (m.visibility = 'PUBLIC' "
+            + "OR EXISTS (SELECT 1 FROM ModuleAccess a WHERE a.user.id = :userId AND a.module.id = m.id))")
     List<StudyModule> findByIdsAccessibleToUser(@Param("moduleIds") List<UUID> moduleIds, @Param("userId") UUID userId);
-}
\ No newline at end of file
+
+    /**
+     * Adds to the stored vocabulary count of a module.
+     *
+     * @param moduleId Module ID
+     * @param delta    Number of vocabularies added (negative when removed)
+     * @return Number of updated rows
+     */
+    @Modifying
+    @Query(
+        value = "UPDATE study_modules SET vocabulary_count = GREATEST(vocabulary_count + :delta, 0) "
+                + "WHERE id = :moduleId",
+        nativeQuery = true)
+    int adjustVocabularyCount(@Param("moduleId") UUID moduleId, @Param("delta") int delta);
+
+    /**
+     * Gets the version of a module response, without loading the module.
+     *
+     * @param id Module ID
+     * @return Version columns, if the module exists
+     */
+    @Query(
+        value = "SELECT m.creator_id AS creatorId, m.visibility AS visibility, m.vocabulary_count AS vocabularyCount, "
+                + "GREATEST(m.updated_at, u.updated_at, f.updated_at, pf.updated_at) AS lastModified "
+                + "FROM study_modules m JOIN users u ON u.id = m.creator_id "
+                + "LEFT JOIN folders f ON f.id = m.folder_id LEFT JOIN folders pf ON pf.id = f.parent_folder_id "
+                + "WHERE m.id = :id AND m.deleted_at IS NULL",
+        nativeQuery = true)
+    Optional<ModuleVersionView> findVersionById(@Param("id") UUID id);
+}
@@ -1,12 +1,12 @@
 package com.kardio.repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -75,40 +75,63 @@ public interface StudySessionRepository extends JpaRepository<StudySession, UUID
     Page<StudySession> findRecentSessionsByUserId(@Param("userId") UUID userId, Pageable pageable);
 
     /**
-     * Gets total study time for a user within a date range.
+     * Calculates average accuracy by user and module.
      *
-     * @param userId    User ID
-     * @param startDate Start date
-     * @param endDate   End date
-     * @return Total study time in seconds
+     * @param userId   User ID
+     * @param moduleId Module ID
+     * @return Average accuracy rate or null if no sessions
      */
-    @Query("SELECT SUM(FUNCTION('TIMESTAMPDIFF', SECOND, s.startTime, "
-            + "CASE WHEN s.endTime IS NULL THEN CURRENT_TIMESTAMP ELSE s.endTime END)) " + "FROM StudySession s "
-            + "WHERE s.user.id = :userId " + "AND s.startTime >= :startDate "
-            + "AND (s.endTime IS NULL OR s.endTime <= :endDate)")
-    Long getTotalStudyTimeInSeconds(
-            @Param("userId") UUID userId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate);
+    @Query("SELECT AVG(s.correctItems * 100.0 / NULLIF(s.totalItems, 0)) " + "FROM StudySession s "
+            + "WHERE s.user.id = :userId AND s.module.id = :moduleId " + "AND s.totalItems > 0")
+    Double getAverageAccuracyByUserAndModule(@Param("userId") UUID userId, @Param("moduleId") UUID moduleId);
 
     /**
-     * Gets session count by type for a user.
+     * Atomically increments the attempt counters of a session.
+     * Bumps the version so a concurrent whole-entity save fails its optimistic
+     * check instead of overwriting the counters.
      *
-     * @param userId User ID
-     * @return Array of [sessionType, count]
+     * @param sessionId              Session ID
+     * @param totalDelta             Number of attempts to add
+     * @param correctDelta           Number of correct attempts to add
+     * @param responseTimeSumDelta   Sum of response times (ms) to add
+     * @param responseTimeCountDelta Number of timed attempts to add
+     * @return Number of updated rows
      */
-    @Query("SELECT s.sessionType, COUNT(s) FROM StudySession s " + "WHERE s.user.id = :userId "
-            + "GROUP BY s.sessionType")
-    List<Object[]> countSessionsByType(@Param("userId") UUID userId);
+    @Modifying
+    @Query("UPDATE StudySession s SET s.totalItems = s.totalItems + :totalDelta, "
+            + "s.correctItems = s.correctItems + :correctDelta, "
+            + "s.responseTimeSumMs = s.responseTimeSumMs + :responseTimeSumDelta, "
+            + "s.responseTimeCount = s.responseTimeCount + :responseTimeCountDelta, s.version = s.version + 1 "
+            + "WHERE s.id = :sessionId")
+    int incrementCounters(
+            @Param("sessionId") UUID sessionId,
+            @Param("totalDelta") int totalDelta,
+            @Param("correctDelta") int correctDelta,
+            @Param("responseTimeSumDelta") long responseTimeSumDelta,
+            @Param("responseTimeCountDelta") int responseTimeCountDelta);
 
     /**
-     * Calculates average accuracy by user and module.
+     * Atomically increments the attempt counters of a session that is still
+     * open. Updates nothing once the session has ended, which is how the attempt
+     * path notices a session closed on another node.
      *
-     * @param userId   User ID
-     * @param moduleId Module ID
-     * @return Average accuracy rate or null if no sessions
+     * @param sessionId              Session ID
+     * @param totalDelta             Number of attempts to add
+     * @param correctDelta           Number of correct attempts to add
+     * @param responseTimeSumDelta   Sum of response times (ms) to add
+     * @param responseTimeCountDelta Number of timed attempts to add
+     * @return Number of updated rows, 0 if the session is ended or gone
      */
-    @Query("SELECT AVG(s.correctItems * 100.0 / NULLIF(s.totalItems, 0)) " + "FROM StudySession s "
-            + "WHERE s.user.id = :userId AND s.module.id = :moduleId " + "AND s.totalItems > 0")
-    Double getAverageAccuracyByUserAndModule(@Param("userId") UUID userId, @Param("moduleId") UUID moduleId);
-}
\ No newline at end of file
+    @Modifying
+    @Query("UPDATE StudySession s SET s.totalItems = s.totalItems + :totalDelta, "
+            + "s.correctItems = s.correctItems + :correctDelta, "
+            + "s.responseTimeSumMs = s.responseTimeSumMs + :responseTimeSumDelta, "
+            + "s.responseTimeCount = s.responseTimeCount + :responseTimeCountDelta, s.version = s.version + 1 "
+            + "WHERE s.id = :sessionId AND s.endTime IS NULL")
+    int incrementOpenSessionCounters(
+            @Param("sessionId") UUID sessionId,
+            @Param("totalDelta") int totalDelta,
+            @Param("correctDelta") int correctDelta,
+            @Param("responseTimeSumDelta") long responseTimeSumDelta,
+            @Param("responseTimeCountDelta") int responseTimeCountDelta);
+}
@@ -0,0 +1,117 @@
+package com.kardio.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.kardio.entity.UserDailyActivity;
+
+/**
+ * Repository for UserDailyActivity entity.
+ */
+@Repository
+public interface UserDailyActivityRepository extends JpaRepository<UserDailyActivity, UUID> {
+
+    /**
+     * Counts a started session in the user's rollup for the day.
+     *
+     * @param userId      User ID
+     * @param day         Day the session started
+     * @param sessionType Session type name
+     * @return Number of affected rows
+     */
+    @Modifying
+    @Query(
+        value = "INSERT INTO user_daily_activity AS a (id, user_id, activity_date, session_type, seconds_studied, "
+                + "attempts, correct_answers, sessions) "
+                + "VALUES (gen_random_uuid(), :userId, :day, :sessionType, 0, 0, 0, 1) "
+                + "ON CONFLICT (user_id, activity_date, session_type) DO UPDATE SET sessions = a.sessions + 1",
+        nativeQuery = true)
+    int addSession(
+            @Param("userId") UUID userId,
+            @Param("day") LocalDate day,
+            @Param("sessionType") String sessionType);
+
+    /**
+     * Adds study time to the user's rollup for the day.
+     *
+     * @param userId      User ID
+     * @param day         Day the time was spent
+     * @param sessionType Session type name
+     * @param seconds     Seconds to add
+     * @return Number of affected rows
+     */
+    @Modifying
+    @Query(
+        value = "INSERT INTO user_daily_activity AS a (id, user_id, activity_date, session_type, seconds_studied, "
+                + "attempts, correct_answers, sessions) "
+                + "VALUES (gen_random_uuid(), :userId, :day, :sessionType, :seconds, 0, 0, 0) "
+                + "ON CONFLICT (user_id, activity_date, session_type) DO UPDATE SET "
+                + "seconds_studied = a.seconds_studied + EXCLUDED.seconds_studied",
+        nativeQuery = true)
+    int addSeconds(
+            @Param("userId") UUID userId,
+            @Param("day") LocalDate day,
+            @Param("sessionType") String sessionType,
+            @Param("seconds") long seconds);
+
+    /**
+     * Adds attempts of a session to its user's rollup for the day. The user and
+     * session type are read from the session row in the same statement.
+     *
+     * @param sessionId    Session ID
+     * @param day          Day the attempts were recorded
+     * @param attempts     Number of attempts to add
+     * @param correctCount Number of correct attempts to add
+     * @return Number of affected rows
+     */
+    @Modifying
+    @Query(
+        value = "INSERT INTO user_daily_activity AS a (id, user_id, activity_date, session_type, seconds_studied, "
+                + "attempts, correct_answers, sessions) "
+                + "SELECT gen_random_uuid(), s.user_id, :day, s.session_type, 0, :attempts, :correctCount, 0 "
+                + "FROM study_sessions s WHERE s.id = :sessionId "
+                + "ON CONFLICT (user_id, activity_date, session_type) DO UPDATE SET "
+                + "attempts = a.attempts + EXCLUDED.attempts, "
+                + "correct_answers = a.correct_answers + EXCLUDED.correct_answers",
+        nativeQuery = true)
+    int addAttempts(
+            @Param("sessionId") UUID sessionId,
+            @Param("day") LocalDate day,
+            @Param("attempts") int attempts,
+            @Param("correctCount") int correctCount);
+
+    /**
+     * Gets total study time for a user within a date range.
+     *
+     * @param userId    User ID
+     * @param startDate Start date (inclusive)
+     * @param endDate   End date (inclusive)
+     * @return Total study time in seconds
+     */
+    @Query("SELECT COALESCE(SUM(a.secondsStudied), 0) FROM UserDailyActivity a "
+            + "WHERE a.user.id = :userId AND a.activityDate BETWEEN :startDate AND :endDate")
+    long sumSecondsStudied(
+            @Param("userId") UUID userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Finds a user's daily rollups within a date range, for charts.
+     *
+     * @param userId    User ID
+     * @param startDate Start date (inclusive)
+     * @param endDate   End date (inclusive)
+     * @return Rollups ordered by date
+     */
+    List<UserDailyActivity> findByUserIdAndActivityDateBetweenOrderByActivityDateAsc(
+            UUID userId,
+            LocalDate startDate,
+            LocalDate endDate);
+}
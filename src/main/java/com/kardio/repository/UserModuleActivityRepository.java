@@ -0,0 +1,58 @@
+package com.kardio.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.kardio.entity.StudyModule;
+import com.kardio.entity.UserModuleActivity;
+
+/**
+ * Repository for UserModuleActivity entity.
+ */
+@Repository
+public interface UserModuleActivityRepository extends JpaRepository<UserModuleActivity, UUID> {
+
+    /**
+     * Records that a user started a session on a module, creating the activity
+     * row on first use.
+     *
+     * @param userId    User ID
+     * @param moduleId  Module ID
+     * @param studiedAt Session start time
+     * @return Number of affected rows
+     */
+    @Modifying
+    @Query(
+        value = "INSERT INTO user_module_activity AS a (id, user_id, module_id, last_studied_at, session_count) "
+                + "VALUES (gen_random_uuid(), :userId, :moduleId, :studiedAt, 1) "
+                + "ON CONFLICT (user_id, module_id) DO UPDATE SET "
+                + "last_studied_at = GREATEST(a.last_studied_at, EXCLUDED.last_studied_at), "
+                + "session_count = a.session_count + 1",
+        nativeQuery = true)
+    int recordSession(
+            @Param("userId") UUID userId,
+            @Param("moduleId") UUID moduleId,
+            @Param("studiedAt") LocalDateTime studiedAt);
+
+    /**
+     * Gets the modules a user studied most recently and can still access, with
+     * their creators.
+     *
+     * @param userId   User ID
+     * @param pageable Limit of the list
+     * @return Study modules, most recently studied first
+     */
+    @Query("SELECT m FROM UserModuleActivity a JOIN a.module m JOIN FETCH m.creator "
+            + "WHERE a.user.id = :userId AND m.deletedAt IS NULL AND (m.visibility = 'PUBLIC' "
+            + "OR EXISTS (SELECT 1 FROM ModuleAccess ma WHERE ma.user.id = :userId AND ma.module.id = m.id)) "
+            + "ORDER BY a.lastStudiedAt DESC")
+    List<StudyModule> findRecentModules(@Param("userId") UUID userId, Pageable pageable);
+}
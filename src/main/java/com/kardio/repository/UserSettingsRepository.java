@@ -0,0 +1,30 @@
+package com.kardio.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.kardio.entity.UserSettings;
+
+/**
+ * Repository for UserSettings entity.
+ */
+@Repository
+public interface UserSettingsRepository extends JpaRepository<UserSettings, UUID> {
+
+    /**
+     * Finds the value of a single setting for a user.
+     *
+     * @param userId     User ID
+     * @param settingKey Setting key
+     * @return Optional containing the setting value if the setting exists
+     */
+    @Query("SELECT s.settingValue FROM UserSettings s WHERE s.user.id = :userId AND s.settingKey = :settingKey")
+    Optional<String> findValueByUserIdAndSettingKey(
+            @Param("userId") UUID userId,
+            @Param("settingKey") String settingKey);
+}
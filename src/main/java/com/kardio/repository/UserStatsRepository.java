@@ -0,0 +1,104 @@
+package com.kardio.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.kardio.entity.UserStats;
+import com.kardio.repository.projection.UserStatsView;
+
+/**
+ * Repository for UserStats entity.
+ */
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, UUID> {
+
+    /**
+     * Adds deltas to a user's statistics, creating the row on first use.
+     *
+     * @param userId          User ID
+     * @param notStudiedDelta Change of the not studied count
+     * @param learningDelta   Change of the learning count
+     * @param masteredDelta   Change of the mastered count
+     * @param correctDelta    Number of correct attempts to add
+     * @param incorrectDelta  Number of incorrect attempts to add
+     * @param lastStudiedAt   Time of the latest attempt, or null if none was made
+     * @param now             Update time
+     * @return Number of affected rows
+     */
+    @Modifying
+    @Query(
+        value = "INSERT INTO user_stats AS us (user_id, not_studied_count, learning_count, mastered_count, "
+                + "total_correct, total_incorrect, last_studied_at, updated_at) "
+                + "VALUES (:userId, GREATEST(:notStudiedDelta, 0), GREATEST(:learningDelta, 0), "
+                + "GREATEST(:masteredDelta, 0), :correctDelta, :incorrectDelta, "
+                + "CAST(:lastStudiedAt AS TIMESTAMP), :now) "
+                + "ON CONFLICT (user_id) DO UPDATE SET "
+                + "not_studied_count = GREATEST(us.not_studied_count + :notStudiedDelta, 0), "
+                + "learning_count = GREATEST(us.learning_count + :learningDelta, 0), "
+                + "mastered_count = GREATEST(us.mastered_count + :masteredDelta, 0), "
+                + "total_correct = us.total_correct + EXCLUDED.total_correct, "
+                + "total_incorrect = us.total_incorrect + EXCLUDED.total_incorrect, "
+                + "last_studied_at = GREATEST(us.last_studied_at, EXCLUDED.last_studied_at), "
+                + "updated_at = EXCLUDED.updated_at",
+        nativeQuery = true)
+    int applyDelta(
+            @Param("userId") UUID userId,
+            @Param("notStudiedDelta") int notStudiedDelta,
+            @Param("learningDelta") int learningDelta,
+            @Param("masteredDelta") int masteredDelta,
+            @Param("correctDelta") long correctDelta,
+            @Param("incorrectDelta") long incorrectDelta,
+            @Param("lastStudiedAt") LocalDateTime lastStudiedAt,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Reads a user's statistics and streak by primary key. A streak whose last
+     * activity was before yesterday is reported as broken.
+     *
+     * @param userId User ID
+     * @return Optional containing the statistics if the user has any
+     */
+    @Query(
+        value = "SELECT us.not_studied_count AS \"notStudiedCount\", us.learning_count AS \"learningCount\", "
+                + "us.mastered_count AS \"masteredCount\", us.total_correct AS \"totalCorrect\", "
+                + "us.total_incorrect AS \"totalIncorrect\", us.last_studied_at AS \"lastStudiedAt\", "
+                + "st.current_streak AS \"currentStreak\", st.longest_streak AS \"longestStreak\" "
+                + "FROM user_stats us "
+                + "LEFT JOIN LATERAL (SELECT CASE WHEN s.last_activity_date >= CURRENT_DATE - 1 "
+                + "THEN s.current_streak ELSE 0 END AS current_streak, s.longest_streak FROM streaks s "
+                + "WHERE s.user_id = us.user_id ORDER BY s.updated_at DESC NULLS LAST LIMIT 1) st ON TRUE "
+                + "WHERE us.user_id = :userId",
+        nativeQuery = true)
+    Optional<UserStatsView> findStatsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Computes a user's statistics from learning_progress, for users whose
+     * user_stats row does not exist yet. Same columns and streak rule as
+     * {@link #findStatsByUserId(UUID)}.
+     *
+     * @param userId User ID
+     * @return The statistics, all zero if the user has no progress
+     */
+    @Query(
+        value = "SELECT CAST(COUNT(*) FILTER (WHERE lp.status = 'NOT_STUDIED') AS INTEGER) AS \"notStudiedCount\", "
+                + "CAST(COUNT(*) FILTER (WHERE lp.status = 'LEARNING') AS INTEGER) AS \"learningCount\", "
+                + "CAST(COUNT(*) FILTER (WHERE lp.status = 'MASTERED') AS INTEGER) AS \"masteredCount\", "
+                + "CAST(COALESCE(SUM(lp.correct_count), 0) AS BIGINT) AS \"totalCorrect\", "
+                + "CAST(COALESCE(SUM(lp.incorrect_count), 0) AS BIGINT) AS \"totalIncorrect\", "
+                + "MAX(lp.last_studied_at) AS \"lastStudiedAt\", "
+                + "MAX(st.current_streak) AS \"currentStreak\", MAX(st.longest_streak) AS \"longestStreak\" "
+                + "FROM (SELECT CAST(:userId AS UUID) AS user_id) u "
+                + "LEFT JOIN learning_progress lp ON lp.user_id = u.user_id "
+                + "LEFT JOIN LATERAL (SELECT CASE WHEN s.last_activity_date >= CURRENT_DATE - 1 "
+                + "THEN s.current_streak ELSE 0 END AS current_streak, s.longest_streak FROM streaks s "
+                + "WHERE s.user_id = u.user_id ORDER BY s.updated_at DESC NULLS LAST LIMIT 1) st ON TRUE",
+        nativeQuery = true)
+    UserStatsView computeStatsByUserId(@Param("userId") UUID userId);
+}
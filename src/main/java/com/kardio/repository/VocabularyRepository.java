@@ -1,5 +1,6 @@
 package com.kardio.repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
@@ -7,11 +8,14 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.kardio.entity.Vocabulary;
+import com.kardio.repository.projection.ResourceVersionView;
+import com.kardio.repository.projection.SessionCardView;
 
 /**
  * Repository for Vocabulary entity.
@@ -19,6 +23,15 @@ import com.kardio.entity.Vocabulary;
 @Repository
 public interface VocabularyRepository extends JpaRepository<Vocabulary, UUID> {
 
+    /** Ranking of the trigram searches: best term match first, then best definition match. */
+    String SIMILARITY_ORDER = "GREATEST(similarity(v.term, :term), word_similarity(:term, v.term)) DESC, "
+            + "word_similarity(:term, v.definition) DESC, v.id";
+
+    /** Restricts the trigram searches to modules that are public or listed in module_access for the user. */
+    String ACCESSIBLE_MODULE_JOIN = "JOIN study_modules m ON m.id = v.module_id AND m.deleted_at IS NULL "
+            + "AND (m.visibility = 'PUBLIC' OR EXISTS "
+            + "(SELECT 1 FROM module_access a WHERE a.user_id = :userId AND a.module_id = m.id)) ";
+
     /**
      * Finds vocabularies by module ID.
      *
@@ -37,13 +50,80 @@ public interface VocabularyRepository extends JpaRepository<Vocabulary, UUID> {
     long countByModuleId(UUID moduleId);
 
     /**
-     * Finds vocabularies by term containing the given string (case insensitive).
+     * Searches the vocabularies a user can access by term and definition,
+     * tolerating typos. Matches terms similar to the search term or containing
+     * a similar word, and definitions containing a similar word, using the
+     * trigram GIN indexes. A vocabulary is accessible if its module is public or
+     * module_access lists the module for the user, as in the module search.
+     * Results are ordered by term similarity, then definition similarity.
      *
-     * @param term     Term to search for
-     * @param pageable Pagination information
-     * @return Page of vocabularies
+     * @param term     Search term
+     * @param userId   ID of the searching user
+     * @param pageable Pagination information, its sort is ignored
+     * @return Page of vocabularies ordered by similarity
      */
-    Page<Vocabulary> findByTermContainingIgnoreCase(String term, Pageable pageable);
+    @Query(
+        value = "SELECT v.* FROM vocabularies v " + ACCESSIBLE_MODULE_JOIN
+                + "WHERE (v.term % :term OR :term <% v.term OR :term <% v.definition) AND v.deleted_at IS NULL "
+                + "ORDER BY " + SIMILARITY_ORDER,
+        countQuery = "SELECT COUNT(*) FROM vocabularies v " + ACCESSIBLE_MODULE_JOIN
+                + "WHERE (v.term % :term OR :term <% v.term OR :term <% v.definition) AND v.deleted_at IS NULL",
+        nativeQuery = true)
+    Page<Vocabulary> searchByTermOrDefinition(
+            @Param("term") String term,
+            @Param("userId") UUID userId,
+            Pageable pageable);
+
+    /**
+     * Searches the vocabularies of one module by term and definition,
+     * tolerating typos. Finds nothing if the user cannot access the module.
+     *
+     * @param term     Search term
+     * @param moduleId Module ID
+     * @param userId   ID of the searching user
+     * @param pageable Pagination information, its sort is ignored
+     * @return Page of vocabularies ordered by similarity
+     */
+    @Query(
+        value = "SELECT v.* FROM vocabularies v " + ACCESSIBLE_MODULE_JOIN
+                + "WHERE v.module_id = :moduleId AND (v.term % :term OR :term <% v.term OR :term <% v.definition) "
+                + "AND v.deleted_at IS NULL "
+                + "ORDER BY " + SIMILARITY_ORDER,
+        countQuery = "SELECT COUNT(*) FROM vocabularies v " + ACCESSIBLE_MODULE_JOIN
+                + "WHERE v.module_id = :moduleId AND (v.term % :term OR :term <% v.term OR :term <% v.definition) "
+                + "AND v.deleted_at IS NULL",
+        nativeQuery = true)
+    Page<Vocabulary> searchByTermOrDefinitionInModule(
+            @Param("term") String term,
+            @Param("moduleId") UUID moduleId,
+            @Param("userId") UUID userId,
+            Pageable pageable);
+
+    /**
+     * Searches the vocabularies of modules created by a user by term and
+     * definition, tolerating typos. Only the owner's modules the searching user
+     * can access are included.
+     *
+     * @param term     Search term
+     * @param ownerId  Module creator ID
+     * @param userId   ID of the searching user
+     * @param pageable Pagination information, its sort is ignored
+     * @return Page of vocabularies ordered by similarity
+     */
+    @Query(
+        value = "SELECT v.* FROM vocabularies v " + ACCESSIBLE_MODULE_JOIN
+                + "WHERE m.creator_id = :ownerId "
+                + "AND (v.term % :term OR :term <% v.term OR :term <% v.definition) AND v.deleted_at IS NULL "
+                + "ORDER BY " + SIMILARITY_ORDER,
+        countQuery = "SELECT COUNT(*) FROM vocabularies v " + ACCESSIBLE_MODULE_JOIN
+                + "WHERE m.creator_id = :ownerId "
+                + "AND (v.term % :term OR :term <% v.term OR :term <% v.definition) AND v.deleted_at IS NULL",
+        nativeQuery = true)
+    Page<Vocabulary> searchByTermOrDefinitionForOwner(
+            @Param("term") String term,
+            @Param("ownerId") UUID ownerId,
+            @Param("userId") UUID userId,
+            Pageable pageable);
 
     /**
      * Finds starred vocabularies by user ID.
@@ -66,14 +146,37 @@ public interface VocabularyRepository extends JpaRepository<Vocabulary, UUID> {
     List<Vocabulary> findByModuleIdAndIdIn(UUID moduleId, List<UUID> ids);
 
     /**
-     * Efficiently count vocabularies for multiple modules at once.
+     * Finds the IDs of all vocabularies in a module.
+     *
+     * @param moduleId Module ID
+     * @return List of vocabulary IDs
+     */
+    @Query("SELECT v.id FROM Vocabulary v WHERE v.module.id = :moduleId AND v.deletedAt IS NULL")
+    List<UUID> findIdsByModuleId(@Param("moduleId") UUID moduleId);
+
+    /**
+     * Finds which of the given vocabulary IDs belong to a module.
      *
-     * @param moduleIds Collection of module IDs
-     * @return List of arrays containing [moduleId, count]
+     * @param moduleId Module ID
+     * @param ids      Vocabulary IDs to check
+     * @return IDs that belong to the module
      */
-    @Query("SELECT v.module.id as moduleId, COUNT(v) as count " + "FROM Vocabulary v "
-            + "WHERE v.module.id IN :moduleIds AND v.deletedAt IS NULL " + "GROUP BY v.module.id")
-    List<Object[]> countVocabulariesForModules(@Param("moduleIds") Collection<UUID> moduleIds);
+    @Query("SELECT v.id FROM Vocabulary v WHERE v.module.id = :moduleId AND v.id IN :ids AND v.deletedAt IS NULL")
+    List<UUID> findIdsByModuleIdAndIdIn(@Param("moduleId") UUID moduleId, @Param("ids") Collection<UUID> ids);
+
+    /**
+     * Soft deletes a vocabulary unless it is already deleted, so concurrent
+     * deletes of the same row are counted once.
+     *
+     * @param id        Vocabulary ID
+     * @param deletedAt Deletion time
+     * @return Number of deleted rows
+     */
+    @Modifying
+    @Query(
+        value = "UPDATE vocabularies SET deleted_at = :deletedAt WHERE id = :id AND deleted_at IS NULL",
+        nativeQuery = true)
+    int softDeleteById(@Param("id") UUID id, @Param("deletedAt") LocalDateTime deletedAt);
 
     /**
      * Finds vocabularies with their statistics in a single query.
@@ -94,4 +197,34 @@ public interface VocabularyRepository extends JpaRepository<Vocabulary, UUID> {
             @Param("moduleId") UUID moduleId,
             @Param("userId") UUID userId,
             Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Finds every card of a module with the user's progress in a single query,
+     * in module order.
+     *
+     * @param moduleId Module ID
+     * @param userId   User ID
+     * @return Cards with progress columns, null for cards the user has not seen
+     */
+    @Query("SELECT v.id AS vocabularyId, v.term AS term, v.definition AS definition, v.example AS example, "
+            + "v.pronunciation AS pronunciation, v.partOfSpeech AS partOfSpeech, "
+            + "v.difficultyLevel AS difficultyLevel, lp.status AS status, lp.correctCount AS correctCount, "
+            + "lp.incorrectCount AS incorrectCount, lp.nextReviewAt AS nextReviewAt " + "FROM Vocabulary v "
+            + "LEFT JOIN LearningProgress lp ON lp.vocabulary.id = v.id AND lp.user.id = :userId "
+            + "WHERE v.module.id = :moduleId AND v.deletedAt IS NULL ORDER BY v.createdAt, v.id")
+    List<SessionCardView> findSessionCards(@Param("moduleId") UUID moduleId, @Param("userId") UUID userId);
+
+    /**
+     * Gets the version of a module's vocabulary list. Deleted rows count
+     * through their deletion time, so a delete changes the version.
+     *
+     * @param moduleId Module ID
+     * @return Latest change and number of live vocabularies
+     */
+    @Query(
+        value = "SELECT MAX(GREATEST(v.updated_at, v.deleted_at)) AS lastModified, "
+                + "COUNT(*) FILTER (WHERE v.deleted_at IS NULL) AS itemCount "
+                + "FROM vocabularies v WHERE v.module_id = :moduleId",
+        nativeQuery = true)
+    ResourceVersionView findVersionByModuleId(@Param("moduleId") UUID moduleId);
+}
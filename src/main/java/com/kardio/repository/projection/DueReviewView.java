@@ -0,0 +1,20 @@
+package com.kardio.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of a due card with the vocabulary fields shown in the review queue.
+ */
+public interface DueReviewView {
+
+    UUID getVocabularyId();
+
+    UUID getModuleId();
+
+    String getTerm();
+
+    String getDefinition();
+
+    LocalDateTime getNextReviewAt();
+}
@@ -0,0 +1,12 @@
+package com.kardio.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Scheduling state of one card among several read together, keyed by its
+ * vocabulary.
+ */
+public interface LearningProgressBatchScheduleView extends LearningProgressScheduleView {
+
+    UUID getVocabularyId();
+}
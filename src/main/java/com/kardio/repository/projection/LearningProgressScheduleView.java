@@ -0,0 +1,21 @@
+package com.kardio.repository.projection;
+
+import java.time.LocalDateTime;
+
+import com.kardio.entity.enums.LearningStatus;
+import com.kardio.service.review.ReviewCardView;
+
+/**
+ * Projection of the columns needed to schedule the next review of a card.
+ * Read as a plain tuple, so it never becomes a managed entity.
+ */
+public interface LearningProgressScheduleView extends ReviewCardView {
+
+    LearningStatus getStatus();
+
+    Integer getCorrectCount();
+
+    Integer getIncorrectCount();
+
+    LocalDateTime getLastStudiedAt();
+}
@@ -0,0 +1,19 @@
+package com.kardio.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of what a module response depends on: the module row, its folder
+ * and creator, plus the columns needed for the access check.
+ */
+public interface ModuleVersionView {
+
+    UUID getCreatorId();
+
+    String getVisibility();
+
+    LocalDateTime getLastModified();
+
+    Integer getVocabularyCount();
+}
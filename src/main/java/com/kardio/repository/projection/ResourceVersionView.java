@@ -0,0 +1,14 @@
+package com.kardio.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the aggregate version of a resource: the latest change of its
+ * rows, soft deletes included, and the number of live rows.
+ */
+public interface ResourceVersionView {
+
+    LocalDateTime getLastModified();
+
+    Long getItemCount();
+}
@@ -0,0 +1,36 @@
+package com.kardio.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.kardio.entity.enums.DifficultyLevel;
+import com.kardio.entity.enums.LearningStatus;
+
+/**
+ * Projection of a vocabulary with the user's progress, used to build the card
+ * order of a study session. Progress columns are null for unseen cards.
+ */
+public interface SessionCardView {
+
+    UUID getVocabularyId();
+
+    String getTerm();
+
+    String getDefinition();
+
+    String getExample();
+
+    String getPronunciation();
+
+    String getPartOfSpeech();
+
+    DifficultyLevel getDifficultyLevel();
+
+    LearningStatus getStatus();
+
+    Integer getCorrectCount();
+
+    Integer getIncorrectCount();
+
+    LocalDateTime getNextReviewAt();
+}
@@ -0,0 +1,25 @@
+package com.kardio.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a user's materialized statistics together with their streak.
+ */
+public interface UserStatsView {
+
+    Integer getNotStudiedCount();
+
+    Integer getLearningCount();
+
+    Integer getMasteredCount();
+
+    Long getTotalCorrect();
+
+    Long getTotalIncorrect();
+
+    LocalDateTime getLastStudiedAt();
+
+    Integer getCurrentStreak();
+
+    Integer getLongestStreak();
+}
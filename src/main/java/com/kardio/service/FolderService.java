@@ -6,7 +6,9 @@ import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 
 import com.kardio.dto.common.PageResponse;
+import com.kardio.dto.common.ResourceVersion;
 import com.kardio.dto.common.SuccessResponse;
+import com.kardio.dto.common.Versioned;
 import com.kardio.dto.folder.FolderCreateRequest;
 import com.kardio.dto.folder.FolderDetailedResponse;
 import com.kardio.dto.folder.FolderHierarchyResponse;
@@ -85,12 +87,22 @@ public interface FolderService {
     PageResponse<FolderResponse> getSubfolders(UUID parentId, UUID userId, Pageable pageable);
 
     /**
-     * Gets the complete folder hierarchy for a user.
+     * Gets the complete folder hierarchy for a user, reloading the cached copy
+     * if it was loaded at another version than the current one.
+     *
+     * @param userId  User ID
+     * @param current Current version, from {@link #getFolderHierarchyVersion(UUID)}
+     * @return The folder hierarchy and the version it was loaded at
+     */
+    Versioned<List<FolderHierarchyResponse>> getFolderHierarchy(UUID userId, ResourceVersion current);
+
+    /**
+     * Gets the version of a user's folder hierarchy.
      *
      * @param userId User ID
-     * @return The folder hierarchy
+     * @return The hierarchy version
      */
-    List<FolderHierarchyResponse> getFolderHierarchy(UUID userId);
+    ResourceVersion getFolderHierarchyVersion(UUID userId);
 
     /**
      * Moves a folder to another parent folder.
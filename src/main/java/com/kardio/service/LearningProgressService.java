@@ -1,22 +1,39 @@
 package com.kardio.service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+import com.kardio.dto.progress.LearningProgressAttemptRequest;
+
 /**
  * Service interface for learning progress management.
  */
 public interface LearningProgressService {
 
     /**
-     * Records an attempt for a vocabulary.
+     * Records an attempt for a vocabulary and schedules its next review with the
+     * user's review scheduler.
      *
-     * @param userId       User ID
-     * @param vocabularyId Vocabulary ID
-     * @param isCorrect    Whether the attempt was correct
-     * @return true if the attempt was recorded successfully
+     * @param userId         User ID
+     * @param vocabularyId   Vocabulary ID
+     * @param isCorrect      Whether the attempt was correct
+     * @param responseTimeMs Response time in milliseconds, may be null
+     * @return true if the attempt was recorded, false if it kept losing to
+     *         concurrent updates; database errors are thrown
+     */
+    boolean recordAttempt(UUID userId, UUID vocabularyId, boolean isCorrect, Integer responseTimeMs);
+
+    /**
+     * Records a batch of attempts for a user in bulk.
+     * Attempts are applied in order, so repeated attempts on the same vocabulary
+     * build on each other.
+     *
+     * @param userId   User ID
+     * @param attempts Attempts to record (vocabulary IDs must already be validated)
+     * @return Number of learning progress entries written
      */
-    boolean recordAttempt(UUID userId, UUID vocabularyId, boolean isCorrect);
+    int recordAttempts(UUID userId, List<LearningProgressAttemptRequest> attempts);
 
     /**
      * Updates the next review time for a vocabulary.
@@ -0,0 +1,25 @@
+package com.kardio.service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.kardio.dto.review.DueReviewPageResponse;
+
+/**
+ * Service interface for the review queue.
+ */
+public interface ReviewService {
+
+    /**
+     * Gets the cards due for review across all modules the user can access,
+     * most overdue first. The first page is served from the user's in-memory
+     * queue; later pages continue from the given keyset position.
+     *
+     * @param userId            User ID
+     * @param limit             Maximum number of cards
+     * @param afterDueAt        Next review time of the last card already seen, may be null
+     * @param afterVocabularyId Vocabulary ID of the last card already seen, may be null
+     * @return Page of due cards with the position of the next page
+     */
+    DueReviewPageResponse getDueReviews(UUID userId, int limit, LocalDateTime afterDueAt, UUID afterVocabularyId);
+}
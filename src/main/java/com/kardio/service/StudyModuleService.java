@@ -6,7 +6,10 @@ import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 
 import com.kardio.dto.common.PageResponse;
+import com.kardio.dto.common.ResourceVersion;
+import com.kardio.dto.common.SerializedResponse;
 import com.kardio.dto.common.SuccessResponse;
+import com.kardio.dto.common.Versioned;
 import com.kardio.dto.module.StudyModuleCreateRequest;
 import com.kardio.dto.module.StudyModuleDetailedResponse;
 import com.kardio.dto.module.StudyModuleResponse;
@@ -29,13 +32,25 @@ public interface StudyModuleService {
     StudyModuleResponse createModule(StudyModuleCreateRequest request, UUID creatorId);
 
     /**
-     * Gets a module by ID.
+     * Gets a module by ID, reloading the cached copy if it was loaded at another
+     * version than the current one.
+     *
+     * @param id      Module ID
+     * @param userId  User ID for access check (can be null for admin)
+     * @param current Current version, from {@link #getModuleVersion(UUID, UUID)}
+     * @return The module response and the version it was loaded at
+     */
+    Versioned<StudyModuleResponse> getModuleById(UUID id, UUID userId, ResourceVersion current);
+
+    /**
+     * Gets the version of a module response, checking access without loading
+     * the module.
      *
      * @param id     Module ID
      * @param userId User ID for access check (can be null for admin)
-     * @return The module response
+     * @return The module version
      */
-    StudyModuleResponse getModuleById(UUID id, UUID userId);
+    ResourceVersion getModuleVersion(UUID id, UUID userId);
 
     /**
      * Gets detailed module information by ID.
@@ -85,12 +100,12 @@ public interface StudyModuleService {
     PageResponse<StudyModuleSummaryResponse> getModulesByFolder(UUID folderId, UUID userId, Pageable pageable);
 
     /**
-     * Gets all public modules.
+     * Gets all public modules, serialized and compressed once per cached page.
      *
      * @param pageable Pagination information
-     * @return Paginated list of public modules
+     * @return Paginated list of public modules with its JSON and gzip bytes
      */
-    PageResponse<StudyModuleSummaryResponse> getPublicModules(Pageable pageable);
+    SerializedResponse<PageResponse<StudyModuleSummaryResponse>> getPublicModules(Pageable pageable);
 
     /**
      * Gets modules shared with a user.
@@ -102,13 +117,13 @@ public interface StudyModuleService {
     PageResponse<StudyModuleSummaryResponse> getSharedModules(UUID userId, Pageable pageable);
 
     /**
-     * Searches modules by term.
+     * Searches modules by term with full-text search.
      *
      * @param term       Search term
      * @param publicOnly Whether to search only public modules
      * @param userId     User ID for visibility filtering (if publicOnly is false)
-     * @param pageable   Pagination information
-     * @return Paginated list of matching modules
+     * @param pageable   Pagination information, its sort is ignored
+     * @return Paginated list of matching modules ordered by relevance
      */
     PageResponse<StudyModuleSummaryResponse>
             searchModules(String term, boolean publicOnly, UUID userId, Pageable pageable);
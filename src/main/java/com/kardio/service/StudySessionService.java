@@ -8,6 +8,8 @@ import org.springframework.data.domain.Pageable;
 
 import com.kardio.dto.common.PageResponse;
 import com.kardio.dto.common.SuccessResponse;
+import com.kardio.dto.progress.LearningProgressBatchUpdateRequest;
+import com.kardio.dto.session.SessionCardResponse;
 import com.kardio.dto.session.SessionItemAnalysisResponse;
 import com.kardio.dto.session.StudySessionCreateRequest;
 import com.kardio.dto.session.StudySessionDetailedResponse;
@@ -57,6 +59,15 @@ public interface StudySessionService {
      */
     StudySessionResponse recordAttempt(StudySessionRecordAttemptRequest request, UUID userId);
 
+    /**
+     * Records a batch of attempts in a session with a single round trip.
+     *
+     * @param request The batch of attempts for one session
+     * @param userId  User ID for access check
+     * @return The updated session
+     */
+    StudySessionResponse recordAttempts(LearningProgressBatchUpdateRequest request, UUID userId);
+
     /**
      * Ends a session.
      *
@@ -98,6 +109,18 @@ public interface StudySessionService {
             SessionType sessionType,
             Pageable pageable);
 
+    /**
+     * Gets the next cards to study in a LEARN or FLASHCARD session.
+     * Weak and unseen cards come first; cards answered incorrectly in the
+     * session are asked again at the end.
+     *
+     * @param id     Session ID
+     * @param count  Maximum number of cards
+     * @param userId User ID for access check
+     * @return Next cards, empty once every card has been served
+     */
+    List<SessionCardResponse> getNextCards(UUID id, int count, UUID userId);
+
     /**
      * Analyzes a session.
      *
@@ -5,6 +5,7 @@ import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 
 import com.kardio.dto.common.PageResponse;
+import com.kardio.dto.progress.UserStatsResponse;
 import com.kardio.dto.user.UserDetailedResponse;
 import com.kardio.dto.user.UserResponse;
 import com.kardio.dto.user.UserUpdateRequest;
@@ -53,4 +54,12 @@ public interface UserService {
      * @param id User ID
      */
     void deleteUser(UUID id);
-}
\ No newline at end of file
+
+    /**
+     * Gets the learning statistics of a user.
+     *
+     * @param id User ID
+     * @return User statistics
+     */
+    UserStatsResponse getUserStats(UUID id);
+}
@@ -5,6 +5,7 @@ import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 
 import com.kardio.dto.common.PageResponse;
+import com.kardio.dto.common.ResourceVersion;
 import com.kardio.dto.common.SuccessResponse;
 import com.kardio.dto.vocabulary.VocabularyBulkImportRequest;
 import com.kardio.dto.vocabulary.VocabularyBulkOperationResponse;
@@ -69,6 +70,14 @@ public interface VocabularyService {
      */
     PageResponse<VocabularyResponse> getVocabulariesByModule(UUID moduleId, Pageable pageable);
 
+    /**
+     * Gets the version of a module's vocabulary list, shared by all its pages.
+     *
+     * @param moduleId Module ID
+     * @return The vocabulary list version
+     */
+    ResourceVersion getVocabulariesVersion(UUID moduleId);
+
     /**
      * Gets all vocabularies in a module with learning progress.
      *
@@ -98,11 +107,20 @@ public interface VocabularyService {
     PageResponse<VocabularyResponse> getStarredVocabularies(UUID userId, Pageable pageable);
 
     /**
-     * Searches vocabularies by term.
+     * Searches the vocabularies a user can access by term and definition,
+     * tolerating typos.
      *
      * @param term     Search term
-     * @param pageable Pagination information
-     * @return Paginated list of matching vocabularies
+     * @param moduleId Module to search in, or null
+     * @param ownerId  Creator of the modules to search in, or null
+     * @param userId   ID of the searching user
+     * @param pageable Pagination information, its sort is ignored
+     * @return Paginated list of matching vocabularies ordered by similarity
      */
-    PageResponse<VocabularyResponse> searchVocabularies(String term, Pageable pageable);
+    PageResponse<VocabularyResponse> searchVocabularies(
+            String term,
+            UUID moduleId,
+            UUID ownerId,
+            UUID userId,
+            Pageable pageable);
 }
\ No newline at end of file
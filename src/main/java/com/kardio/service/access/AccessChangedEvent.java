@@ -0,0 +1,33 @@
+package com.kardio.service.access;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published when a write changes who may access a resource, so cached access
+ * decisions for it are dropped once the transaction commits.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AccessChangedEvent {
+
+    private final AccessResourceType resourceType;
+    private final UUID resourceId;
+
+    /** User whose access changed, or null if it may have changed for every user. */
+    private final UUID principalId;
+
+    /**
+     * Access to a resource changed for every user, e.g. after a delete or a
+     * visibility change.
+     *
+     * @param resourceType Resource type
+     * @param resourceId   Resource ID
+     * @return The event
+     */
+    public static AccessChangedEvent forAll(AccessResourceType resourceType, UUID resourceId) {
+        return new AccessChangedEvent(resourceType, resourceId, null);
+    }
+}
@@ -0,0 +1,122 @@
+package com.kardio.service.access;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of permission checks keyed by (principal, resource type, resource ID).
+ * Repeated checks of the same user on the same resource, as in a study burst,
+ * are answered from memory. Entries are dropped by {@link AccessChangedEvent}s
+ * after the changing transaction commits; the expiry bounds how long a decision
+ * computed concurrently with such a change can outlive it.
+ * <p>
+ * Hit and miss counts are published as the "accessDecisions" cache metrics.
+ */
+@Component
+@Slf4j
+public class AccessDecisionCache {
+
+    private final Cache<AccessKey, Boolean> decisions;
+
+    public AccessDecisionCache(
+            MeterRegistry meterRegistry,
+            @Value("${kardio.access.cache.ttl-minutes:5}") long ttlMinutes,
+            @Value("${kardio.access.cache.max-size:100000}") long maxSize) {
+        this.decisions = Caffeine
+            .newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, decisions, "accessDecisions");
+    }
+
+    /**
+     * Gets a cached decision or computes and caches it.
+     *
+     * @param principalId  User ID
+     * @param resourceType Resource type
+     * @param resourceId   Resource ID
+     * @param check        Permission check to run on a miss
+     * @return true if access is allowed
+     */
+    public boolean isAllowed(
+            UUID principalId,
+            AccessResourceType resourceType,
+            UUID resourceId,
+            BooleanSupplier check) {
+        return decisions.get(new AccessKey(principalId, resourceType, resourceId), key -> check.getAsBoolean());
+    }
+
+    /**
+     * Drops the decisions affected by an access change.
+     *
+     * @param event The committed change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccessChanged(AccessChangedEvent event) {
+        if (event.getPrincipalId() != null) {
+            decisions.invalidate(new AccessKey(event.getPrincipalId(), event.getResourceType(), event.getResourceId()));
+            return;
+        }
+
+        // Rare (deletes, visibility changes), so a scan of the keys is acceptable
+        decisions
+            .asMap()
+            .keySet()
+            .removeIf(key -> key.resourceType == event.getResourceType()
+                    && key.resourceId.equals(event.getResourceId()));
+        log.debug("Dropped access decisions for {} {}", event.getResourceType(), event.getResourceId());
+    }
+
+    /**
+     * Drops every cached decision, e.g. after invalidations from other nodes
+     * may have been missed.
+     */
+    public void invalidateAll() {
+        decisions.invalidateAll();
+    }
+
+    private static final class AccessKey {
+
+        private final UUID principalId;
+        private final AccessResourceType resourceType;
+        private final UUID resourceId;
+
+        private AccessKey(UUID principalId, AccessResourceType resourceType, UUID resourceId) {
+            this.principalId = principalId;
+            this.resourceType = resourceType;
+            this.resourceId = resourceId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof AccessKey other)) {
+                return false;
+            }
+            return principalId.equals(other.principalId) && resourceType == other.resourceType
+                    && resourceId.equals(other.resourceId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(principalId, resourceType, resourceId);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.kardio.service.access;
+
+/**
+ * Kinds of resources whose access decisions are cached.
+ */
+public enum AccessResourceType {
+    MODULE, FOLDER, CLASS
+}
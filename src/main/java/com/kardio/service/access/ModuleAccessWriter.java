@@ -0,0 +1,92 @@
+package com.kardio.service.access;
+
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kardio.entity.StudyModule;
+import com.kardio.entity.enums.VisibilityType;
+import com.kardio.repository.ModuleAccessRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps module_access in step with module and share changes, in the caller's
+ * transaction. SHARED rows exist only while the module's visibility is SHARED,
+ * mirroring the rule of StudyModuleServiceImpl#canAccessModule. Every change
+ * publishes an {@link AccessChangedEvent} for the {@link AccessDecisionCache}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ModuleAccessWriter {
+
+    private final ModuleAccessRepository moduleAccessRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Grants the creator access to a new module.
+     *
+     * @param module The created module
+     */
+    @Transactional
+    public void moduleCreated(StudyModule module) {
+        moduleAccessRepository.grantOwner(module.getCreator().getId(), module.getId());
+        if (module.getVisibility() == VisibilityType.SHARED) {
+            moduleAccessRepository.grantShares(module.getId());
+        }
+    }
+
+    /**
+     * Removes every access row of a deleted module.
+     *
+     * @param moduleId Module ID
+     */
+    @Transactional
+    public void moduleDeleted(UUID moduleId) {
+        moduleAccessRepository.revokeAll(moduleId);
+        eventPublisher.publishEvent(AccessChangedEvent.forAll(AccessResourceType.MODULE, moduleId));
+    }
+
+    /**
+     * Adds or removes share rows after the module's visibility changed.
+     *
+     * @param module The module with its new visibility
+     */
+    @Transactional
+    public void visibilityChanged(StudyModule module) {
+        if (module.getVisibility() == VisibilityType.SHARED) {
+            moduleAccessRepository.grantShares(module.getId());
+        } else {
+            moduleAccessRepository.revokeShares(module.getId());
+        }
+        eventPublisher.publishEvent(AccessChangedEvent.forAll(AccessResourceType.MODULE, module.getId()));
+    }
+
+    /**
+     * Grants access to a user the module was shared with.
+     *
+     * @param module The shared module
+     * @param userId User ID
+     */
+    @Transactional
+    public void shareAdded(StudyModule module, UUID userId) {
+        if (module.getVisibility() == VisibilityType.SHARED) {
+            moduleAccessRepository.grantShare(userId, module.getId());
+            eventPublisher.publishEvent(new AccessChangedEvent(AccessResourceType.MODULE, module.getId(), userId));
+        }
+    }
+
+    /**
+     * Revokes the access of a user the module is no longer shared with.
+     *
+     * @param moduleId Module ID
+     * @param userId   User ID
+     */
+    @Transactional
+    public void shareRemoved(UUID moduleId, UUID userId) {
+        moduleAccessRepository.revokeShare(userId, moduleId);
+        eventPublisher.publishEvent(new AccessChangedEvent(AccessResourceType.MODULE, moduleId, userId));
+    }
+}
@@ -0,0 +1,95 @@
+package com.kardio.service.attempt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kardio.dto.progress.LearningProgressAttemptRequest;
+import com.kardio.entity.SessionItem;
+import com.kardio.repository.SessionItemRepository;
+import com.kardio.repository.StudySessionRepository;
+import com.kardio.repository.VocabularyRepository;
+import com.kardio.service.LearningProgressService;
+import com.kardio.service.session.SessionAttemptTally;
+import com.kardio.service.session.SessionTallyWriter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persists a drained batch of buffered attempts in one transaction.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AttemptBatchWriter {
+
+    private final SessionItemRepository sessionItemRepository;
+    private final StudySessionRepository studySessionRepository;
+    private final VocabularyRepository vocabularyRepository;
+    private final LearningProgressService learningProgressService;
+    private final SessionTallyWriter sessionTallyWriter;
+
+    /**
+     * Writes a batch of attempts: one batched insert for the session items, one
+     * progress write per (user, vocabulary) and one tally write per session.
+     *
+     * @param attempts Attempts in arrival order
+     */
+    @Transactional
+    public void write(List<BufferedAttempt> attempts) {
+        if (attempts.isEmpty()) {
+            return;
+        }
+
+        final List<SessionItem> items = new ArrayList<>(attempts.size());
+        // Users and sessions are written in ID order, so concurrent flushes lock rows in the same order
+        final Map<UUID, SessionAttemptTally> sessionTallies = new TreeMap<>();
+        final Map<UUID, List<LearningProgressAttemptRequest>> attemptsByUser = new TreeMap<>();
+
+        for (BufferedAttempt attempt : attempts) {
+            items
+                .add(
+                    SessionItem
+                        .builder()
+                        .session(studySessionRepository.getReferenceById(attempt.getSessionId()))
+                        .vocabulary(vocabularyRepository.getReferenceById(attempt.getVocabularyId()))
+                        .isCorrect(attempt.isCorrect())
+                        .responseTimeMs(attempt.getResponseTimeMs())
+                        .build());
+
+            sessionTallies
+                .computeIfAbsent(attempt.getSessionId(), id -> new SessionAttemptTally())
+                .add(attempt.getVocabularyId(), attempt.isCorrect(), attempt.getResponseTimeMs());
+
+            attemptsByUser
+                .computeIfAbsent(attempt.getUserId(), id -> new ArrayList<>())
+                .add(
+                    LearningProgressAttemptRequest
+                        .builder()
+                        .vocabularyId(attempt.getVocabularyId())
+                        .isCorrect(attempt.isCorrect())
+                        .responseTimeMs(attempt.getResponseTimeMs())
+                        .build());
+        }
+
+        sessionItemRepository.saveAll(items);
+
+        // Repeated attempts on the same card collapse into a single progress write per user
+        attemptsByUser.forEach(learningProgressService::recordAttempts);
+
+        sessionTallies.forEach(sessionTallyWriter::write);
+
+        log
+            .debug(
+                "Flushed {} attempts across {} sessions and {} users",
+                attempts.size(),
+                sessionTallies.size(),
+                attemptsByUser.size());
+    }
+}
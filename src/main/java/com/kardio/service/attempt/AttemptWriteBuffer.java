@@ -0,0 +1,288 @@
+package com.kardio.service.attempt;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import com.kardio.entity.AttemptDeadLetter;
+import com.kardio.exception.KardioException;
+import com.kardio.repository.AttemptDeadLetterRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded write-behind buffer for session attempts.
+ * Attempts are acknowledged as soon as they are queued and are persisted in
+ * batches when either the batch size is reached or the flush interval elapses.
+ * <p>
+ * A batch that fails is retried with backoff on transient errors, then split
+ * so each attempt is written alone; attempts that still fail are moved to
+ * attempt_dead_letters instead of being dropped.
+ */
+@Component
+@Slf4j
+public class AttemptWriteBuffer {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final AttemptBatchWriter attemptBatchWriter;
+    private final AttemptDeadLetterRepository attemptDeadLetterRepository;
+    private final MessageSource messageSource;
+    private final RetryTemplate retryTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long offerTimeoutMs;
+    private final BlockingQueue<BufferedAttempt> queue;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "attempt-buffer-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Timer flushTimer;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetteredCounter;
+
+    public AttemptWriteBuffer(
+            AttemptBatchWriter attemptBatchWriter,
+            AttemptDeadLetterRepository attemptDeadLetterRepository,
+            MessageSource messageSource,
+            MeterRegistry meterRegistry,
+            @Value("${kardio.attempts.write-behind.enabled:false}") boolean enabled,
+            @Value("${kardio.attempts.write-behind.capacity:10000}") int capacity,
+            @Value("${kardio.attempts.write-behind.batch-size:500}") int batchSize,
+            @Value("${kardio.attempts.write-behind.offer-timeout-ms:50}") long offerTimeoutMs,
+            @Value("${kardio.attempts.write-behind.retry.max-attempts:3}") int retryMaxAttempts,
+            @Value("${kardio.attempts.write-behind.retry.initial-backoff-ms:200}") long retryInitialBackoffMs,
+            @Value("${kardio.attempts.write-behind.retry.max-backoff-ms:2000}") long retryMaxBackoffMs) {
+        this.attemptBatchWriter = attemptBatchWriter;
+        this.attemptDeadLetterRepository = attemptDeadLetterRepository;
+        this.messageSource = messageSource;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+
+        // Only errors that may succeed on a second try are retried; constraint violations fail fast
+        this.retryTemplate = RetryTemplate
+            .builder()
+            .maxAttempts(retryMaxAttempts)
+            .exponentialBackoff(retryInitialBackoffMs, 2.0, retryMaxBackoffMs)
+            .retryOn(
+                List
+                    .of(
+                        TransientDataAccessException.class,
+                        RecoverableDataAccessException.class,
+                        DataAccessResourceFailureException.class,
+                        CannotCreateTransactionException.class))
+            .traversingCauses()
+            .build();
+
+        Gauge.builder("kardio.attempts.buffer.depth", queue, BlockingQueue::size).register(meterRegistry);
+        this.flushTimer = Timer.builder("kardio.attempts.buffer.flush").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("kardio.attempts.buffer.rejected").register(meterRegistry);
+        this.failedCounter = Counter.builder("kardio.attempts.buffer.failed").register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("kardio.attempts.buffer.dead-lettered").register(meterRegistry);
+    }
+
+    /**
+     * Whether attempts should be routed through this buffer.
+     *
+     * @return true if write-behind mode is enabled and the buffer is accepting
+     */
+    public boolean isEnabled() {
+        return enabled && !closed.get();
+    }
+
+    /**
+     * Queues an attempt for asynchronous persistence.
+     * Waits briefly for space when the buffer is full and rejects the attempt
+     * with 503 if none frees up, so clients can back off and retry.
+     *
+     * @param attempt The validated attempt
+     */
+    public void offer(BufferedAttempt attempt) {
+        boolean accepted;
+        try {
+            accepted = !closed.get() && queue.offer(attempt, offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+
+        if (!accepted) {
+            rejectedCounter.increment();
+            log.warn("Attempt buffer is full, rejecting attempt for session: {}", attempt.getSessionId());
+            throw new KardioException(
+                messageSource.getMessage("error.attempt.buffer.full", null, LocaleContextHolder.getLocale()),
+                HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        // Size trigger: hand off to the flush thread instead of flushing on the request thread
+        if (queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    /**
+     * Time trigger: flushes whatever has accumulated since the last flush.
+     */
+    @Scheduled(fixedDelayString = "${kardio.attempts.write-behind.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        if (enabled && !queue.isEmpty()) {
+            flush();
+        }
+    }
+
+    /**
+     * Drains the buffer in batches until it is empty.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<BufferedAttempt> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                writeBatch(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting attempts and drains the buffer on graceful shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        closed.set(true);
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.info("Draining {} buffered attempts before shutdown", queue.size());
+        flush();
+    }
+
+    private void writeBatch(List<BufferedAttempt> batch) {
+        final long start = System.nanoTime();
+        try {
+            writeWithRetry(batch);
+        } catch (Exception e) {
+            log
+                .warn(
+                    "Failed to flush {} buffered attempts, writing them one by one: {}",
+                    batch.size(),
+                    e.getMessage());
+            writeIndividually(batch, e);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Writes each attempt of a failed batch on its own so one bad row only
+     * costs itself, and dead-letters the attempts that still fail.
+     */
+    private void writeIndividually(List<BufferedAttempt> batch, Exception batchFailure) {
+        final List<AttemptDeadLetter> deadLetters = new ArrayList<>();
+
+        if (batch.size() == 1) {
+            deadLetters.add(toDeadLetter(batch.get(0), batchFailure));
+        } else {
+            for (BufferedAttempt attempt : batch) {
+                try {
+                    writeWithRetry(List.of(attempt));
+                } catch (Exception e) {
+                    deadLetters.add(toDeadLetter(attempt, e));
+                }
+            }
+        }
+
+        if (!deadLetters.isEmpty()) {
+            deadLetter(deadLetters);
+        }
+    }
+
+    private void writeWithRetry(List<BufferedAttempt> attempts) {
+        retryTemplate.execute(context -> {
+            attemptBatchWriter.write(attempts);
+            return null;
+        });
+    }
+
+    private void deadLetter(List<AttemptDeadLetter> deadLetters) {
+        try {
+            attemptDeadLetterRepository.saveAll(deadLetters);
+            deadLetteredCounter.increment(deadLetters.size());
+            log.error("Moved {} buffered attempts to the dead-letter table", deadLetters.size());
+        } catch (Exception e) {
+            // Last resort: the attempt survives only in the log
+            failedCounter.increment(deadLetters.size());
+            log.error("Failed to dead-letter {} buffered attempts: {}", deadLetters.size(), e.getMessage());
+            deadLetters
+                .forEach(
+                    letter -> log
+                        .error(
+                            "Lost attempt: session={}, user={}, vocabulary={}, correct={}, responseTimeMs={}",
+                            letter.getSessionId(),
+                            letter.getUserId(),
+                            letter.getVocabularyId(),
+                            letter.getIsCorrect(),
+                            letter.getResponseTimeMs()));
+        }
+    }
+
+    private AttemptDeadLetter toDeadLetter(BufferedAttempt attempt, Exception failure) {
+        final Throwable cause = NestedExceptionUtils.getMostSpecificCause(failure);
+        String error = cause.getClass().getName() + ": " + cause.getMessage();
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        return AttemptDeadLetter
+            .builder()
+            .sessionId(attempt.getSessionId())
+            .userId(attempt.getUserId())
+            .vocabularyId(attempt.getVocabularyId())
+            .isCorrect(attempt.isCorrect())
+            .responseTimeMs(attempt.getResponseTimeMs())
+            .error(error)
+            .failedAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.kardio.service.attempt;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * An attempt that has been validated and acknowledged but not yet persisted.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class BufferedAttempt {
+    private final UUID sessionId;
+    private final UUID userId;
+    private final UUID vocabularyId;
+    private final boolean correct;
+    private final Integer responseTimeMs;
+}
@@ -0,0 +1,138 @@
+package com.kardio.service.cache;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.kardio.constant.AppConstants.CacheNames;
+import com.kardio.dto.common.PageResponse;
+import com.kardio.dto.common.SerializedResponse;
+import com.kardio.dto.common.Versioned;
+import com.kardio.dto.module.StudyModuleResponse;
+import com.kardio.dto.module.StudyModuleSummaryResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts cached module listings after the write that changed them commits.
+ * Entries are dropped by key where the key names the change (a user's recent
+ * modules) and by content where it does not (pages that contain a module);
+ * only a change to the public listing itself clears the whole public cache.
+ * Module details and folder hierarchies are dropped by key.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheEvictionListener {
+
+    private final CacheManager cacheManager;
+    private final HotReadCache hotReadCache;
+
+    /**
+     * Drops cached listings that show a changed module.
+     *
+     * @param event The committed change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onModuleChanged(ModuleChangedEvent event) {
+        final UUID moduleId = event.getModuleId();
+
+        if (event.isListingChanged()) {
+            // Pages shift when a public module appears, moves or disappears
+            clear(CacheNames.PUBLIC_MODULES);
+        } else {
+            removeIf(CacheNames.PUBLIC_MODULES, (key, value) -> containsModule(value, moduleId));
+        }
+        removeIf(CacheNames.RECENT_MODULES, (key, value) -> containsModule(value, moduleId));
+        hotReadCache.evict(CacheNames.MODULES, moduleId);
+    }
+
+    /**
+     * Drops the recent modules of a user, for every cached limit.
+     *
+     * @param event The committed change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserModulesChanged(UserModulesChangedEvent event) {
+        final String prefix = event.getUserId() + "-";
+        removeIf(CacheNames.RECENT_MODULES, (key, value) -> key.toString().startsWith(prefix));
+    }
+
+    /**
+     * Drops a user's folder hierarchy and the cached modules that show a changed
+     * folder.
+     *
+     * @param event The committed change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFolderChanged(FolderChangedEvent event) {
+        hotReadCache.evict(CacheNames.FOLDER_HIERARCHY, event.getUserId());
+
+        final UUID folderId = event.getFolderId();
+        if (folderId != null) {
+            removeIf(
+                CacheNames.MODULES,
+                (key, value) -> value instanceof Versioned<?> versioned
+                        && versioned.getValue() instanceof StudyModuleResponse module && module.getFolder() != null
+                        && folderId.equals(module.getFolder().getId()));
+        }
+    }
+
+    /**
+     * Clears every cache, e.g. after evictions from other nodes may have been
+     * missed.
+     */
+    public void clearAll() {
+        cacheManager.getCacheNames().forEach(this::clear);
+    }
+
+    private void clear(String cacheName) {
+        final Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private void removeIf(String cacheName, BiPredicate<Object, Object> predicate) {
+        final Cache cache = cacheManager.getCache(cacheName);
+        if (!(cache instanceof CaffeineCache caffeineCache)) {
+            return;
+        }
+
+        final boolean removed = caffeineCache
+            .getNativeCache()
+            .asMap()
+            .entrySet()
+            .removeIf(entry -> predicate.test(entry.getKey(), entry.getValue()));
+        if (removed) {
+            log.debug("Evicted stale entries from cache {}", cacheName);
+        }
+    }
+
+    private static boolean containsModule(Object value, UUID moduleId) {
+        if (value instanceof SerializedResponse<?> serialized) {
+            return containsModule(serialized.getValue(), moduleId);
+        }
+
+        final Collection<?> modules;
+        if (value instanceof PageResponse<?> page) {
+            modules = page.getContent();
+        } else if (value instanceof Collection<?> list) {
+            modules = list;
+        } else {
+            return false;
+        }
+
+        return modules
+            .stream()
+            .anyMatch(
+                module -> module instanceof StudyModuleSummaryResponse summary && moduleId.equals(summary.getId()));
+    }
+}
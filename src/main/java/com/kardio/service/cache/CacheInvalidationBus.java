@@ -0,0 +1,286 @@
+package com.kardio.service.cache;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.kardio.service.access.AccessChangedEvent;
+import com.kardio.service.access.AccessDecisionCache;
+import com.kardio.service.access.AccessResourceType;
+import com.kardio.service.review.DueReviewQueue;
+import com.kardio.service.session.ActiveSessionRegistry;
+import com.kardio.service.session.SessionClosedEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Carries cache invalidations between API nodes over Postgres LISTEN/NOTIFY.
+ * <p>
+ * Invalidation events are sent with pg_notify in the transaction of the write,
+ * so Postgres delivers them only if it commits. Each node listens on its own
+ * connection, outside the pool, and applies messages from other nodes to its
+ * local caches; its own writes are already applied by the local listeners.
+ * Notifications sent while a node is disconnected are lost, so the node clears
+ * its caches after every reconnect.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationBus {
+
+    private static final String CHANNEL = "kardio_cache_invalidation";
+    private static final String NOTIFY = "SELECT pg_notify('" + CHANNEL + "', ?)";
+    private static final String SEPARATOR = ";";
+    private static final String MODULE = "M";
+    private static final String USER_MODULES = "U";
+    private static final String FOLDER = "F";
+    private static final String ACCESS = "A";
+    private static final String SESSION_CLOSED = "S";
+    private static final String VOCABULARY_DELETED = "V";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheEvictionListener cacheEvictionListener;
+    private final AccessDecisionCache accessDecisionCache;
+    private final ActiveSessionRegistry activeSessionRegistry;
+    private final DueReviewQueue dueReviewQueue;
+    private final boolean enabled;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int pollMillis;
+    private final long reconnectDelayMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public CacheInvalidationBus(
+            JdbcTemplate jdbcTemplate,
+            CacheEvictionListener cacheEvictionListener,
+            AccessDecisionCache accessDecisionCache,
+            ActiveSessionRegistry activeSessionRegistry,
+            DueReviewQueue dueReviewQueue,
+            @Value("${kardio.cache.invalidation.enabled:true}") boolean enabled,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${kardio.cache.invalidation.poll-ms:10000}") int pollMillis,
+            @Value("${kardio.cache.invalidation.reconnect-delay-ms:5000}") long reconnectDelayMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheEvictionListener = cacheEvictionListener;
+        this.accessDecisionCache = accessDecisionCache;
+        this.activeSessionRegistry = activeSessionRegistry;
+        this.dueReviewQueue = dueReviewQueue;
+        this.enabled = enabled;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollMillis = pollMillis;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+    }
+
+    /**
+     * Forwards a module change to the other nodes.
+     *
+     * @param event The change
+     */
+    @EventListener
+    public void onModuleChanged(ModuleChangedEvent event) {
+        send(MODULE, event.getModuleId().toString(), String.valueOf(event.isListingChanged()));
+    }
+
+    /**
+     * Forwards a change to a user's modules to the other nodes.
+     *
+     * @param event The change
+     */
+    @EventListener
+    public void onUserModulesChanged(UserModulesChangedEvent event) {
+        send(USER_MODULES, event.getUserId().toString());
+    }
+
+    /**
+     * Forwards a folder change to the other nodes.
+     *
+     * @param event The change
+     */
+    @EventListener
+    public void onFolderChanged(FolderChangedEvent event) {
+        final String folder = event.getFolderId() != null ? event.getFolderId().toString() : "";
+        send(FOLDER, event.getUserId().toString(), folder);
+    }
+
+    /**
+     * Forwards an access change to the other nodes.
+     *
+     * @param event The change
+     */
+    @EventListener
+    public void onAccessChanged(AccessChangedEvent event) {
+        final String principal = event.getPrincipalId() != null ? event.getPrincipalId().toString() : "";
+        send(ACCESS, event.getResourceType().name(), event.getResourceId().toString(), principal);
+    }
+
+    /**
+     * Forwards a closed session to the other nodes, so their registries stop
+     * accepting attempts for it.
+     *
+     * @param event The close
+     */
+    @EventListener
+    public void onSessionClosed(SessionClosedEvent event) {
+        send(SESSION_CLOSED, event.getSessionId().toString());
+    }
+
+    /**
+     * Forwards a deleted vocabulary to the other nodes, so their open sessions
+     * stop serving it.
+     *
+     * @param event The delete
+     */
+    @EventListener
+    public void onVocabularyDeleted(VocabularyDeletedEvent event) {
+        send(VOCABULARY_DELETED, event.getVocabularyId().toString(), event.getModuleId().toString());
+    }
+
+    /**
+     * Starts listening once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        running = true;
+        listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    /**
+     * Stops listening on shutdown.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void send(String type, String... fields) {
+        if (!enabled) {
+            return;
+        }
+
+        final String payload = nodeId + SEPARATOR + type + SEPARATOR + String.join(SEPARATOR, fields);
+        // Runs in the caller's transaction, if any: Postgres holds the notification until commit
+        jdbcTemplate.query(NOTIFY, rs -> {
+        }, payload);
+    }
+
+    private void listen() {
+        boolean missedMessages = false;
+
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (missedMessages) {
+                    clearLocalCaches();
+                }
+                log.info("Listening for cache invalidations as node {}", nodeId);
+
+                final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    final PGNotification[] notifications = pgConnection.getNotifications(pollMillis);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    } else if (!connection.isValid(5)) {
+                        throw new SQLException("Invalidation connection is no longer valid");
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    missedMessages = true;
+                    log.warn("Cache invalidation connection lost, retrying in {} ms: {}", reconnectDelayMillis,
+                        e.getMessage());
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        final String[] fields = payload.split(SEPARATOR, -1);
+        if (fields.length < 3 || nodeId.equals(fields[0])) {
+            return;
+        }
+
+        try {
+            switch (fields[1]) {
+                case MODULE -> {
+                    final ModuleChangedEvent event = new ModuleChangedEvent(
+                        UUID.fromString(fields[2]),
+                        Boolean.parseBoolean(fields[3]));
+                    cacheEvictionListener.onModuleChanged(event);
+                    dueReviewQueue.onModuleChanged(event);
+                }
+                case USER_MODULES -> cacheEvictionListener
+                    .onUserModulesChanged(new UserModulesChangedEvent(UUID.fromString(fields[2])));
+                case FOLDER -> cacheEvictionListener
+                    .onFolderChanged(
+                        new FolderChangedEvent(
+                            UUID.fromString(fields[2]),
+                            fields[3].isEmpty() ? null : UUID.fromString(fields[3])));
+                case ACCESS -> {
+                    final AccessChangedEvent event = new AccessChangedEvent(
+                        AccessResourceType.valueOf(fields[2]),
+                        UUID.fromString(fields[3]),
+                        fields[4].isEmpty() ? null : UUID.fromString(fields[4]));
+                    accessDecisionCache.onAccessChanged(event);
+                    dueReviewQueue.onAccessChanged(event);
+                }
+                case SESSION_CLOSED -> activeSessionRegistry.remove(UUID.fromString(fields[2]));
+                case VOCABULARY_DELETED -> activeSessionRegistry
+                    .onVocabularyDeleted(
+                        new VocabularyDeletedEvent(UUID.fromString(fields[2]), UUID.fromString(fields[3])));
+                default -> log.warn("Ignoring unknown cache invalidation: {}", payload);
+            }
+        } catch (RuntimeException e) {
+            // A message this node cannot apply may hide a change; fall back to a full flush
+            log.warn("Failed to apply cache invalidation {}: {}", payload, e.getMessage());
+            clearLocalCaches();
+        }
+    }
+
+    private void clearLocalCaches() {
+        cacheEvictionListener.clearAll();
+        accessDecisionCache.invalidateAll();
+        dueReviewQueue.invalidateAll();
+        activeSessionRegistry.invalidateAll();
+        log.info("Cleared local caches after missed invalidations");
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.kardio.service.cache;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published when a user's folder tree or its module counts change: folder
+ * create, update, move and delete, and modules added to, moved between or
+ * removed from folders.
+ */
+@Getter
+@RequiredArgsConstructor
+public class FolderChangedEvent {
+
+    private final UUID userId;
+
+    /** Folder whose own details changed, or null if only the tree's counts did. */
+    private final UUID folderId;
+}
@@ -0,0 +1,139 @@
+package com.kardio.service.cache;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+/**
+ * Single-flight, refresh-ahead reads for hot keys.
+ * <p>
+ * Backed by the loading caches of the cache manager, so eviction, cross-node
+ * invalidation and metrics apply as for any other cache. Concurrent misses for
+ * one key share a single load. With refreshAfterWrite in the cache's spec, a
+ * read of an ageing entry returns it and reloads it in the background, so hot
+ * keys are replaced before they expire.
+ * <p>
+ * Each entry remembers the loader of its first read for later refreshes, so a
+ * loader must depend on its key only, never on the requesting user. Loads run
+ * in a read-only transaction of their own when called outside one.
+ */
+@Component
+public class HotReadCache {
+
+    private final CacheManager cacheManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public HotReadCache(CacheManager cacheManager, PlatformTransactionManager transactionManager) {
+        this.cacheManager = cacheManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Loader for the caches read through this class; each key carries its own.
+     *
+     * @return Cache loader to build the loading caches with
+     */
+    public static CacheLoader<Object, Object> keyLoader() {
+        return key -> ((LoaderKey) key).load();
+    }
+
+    /**
+     * Gets a value, loading it once for all concurrent callers on a miss.
+     *
+     * @param cacheName Name of a loading cache
+     * @param key       Key
+     * @param loader    Computes the value from the key alone
+     * @return The cached or loaded value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String cacheName, Object key, Supplier<T> loader) {
+        final Supplier<T> transactionalLoader = () -> readOnlyTransaction.execute(status -> loader.get());
+        return (T) nativeCache(cacheName).get(new LoaderKey(key, transactionalLoader));
+    }
+
+    /**
+     * Gets a value like {@link #get(String, Object, Supplier)}, but replaces a
+     * cached value that fails the check with a fresh load. Used where eviction
+     * may lag behind the database, such as on other nodes or for changes to
+     * rows the value only embeds.
+     *
+     * @param cacheName Name of a loading cache
+     * @param key       Key
+     * @param loader    Computes the value from the key alone
+     * @param isCurrent Whether a cached value is still current
+     * @return The cached value if current, otherwise a freshly loaded one
+     */
+    public <T> T getCurrent(String cacheName, Object key, Supplier<T> loader, Predicate<? super T> isCurrent) {
+        final T cached = get(cacheName, key, loader);
+        if (isCurrent.test(cached)) {
+            return cached;
+        }
+
+        evict(cacheName, key);
+        return get(cacheName, key, loader);
+    }
+
+    /**
+     * Removes one entry.
+     *
+     * @param cacheName Name of a loading cache
+     * @param key       Key
+     */
+    public void evict(String cacheName, Object key) {
+        nativeCache(cacheName).invalidate(new LoaderKey(key, null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private LoadingCache<Object, Object> nativeCache(String cacheName) {
+        final Cache cache = cacheManager.getCache(cacheName);
+        if (cache instanceof CaffeineCache caffeineCache
+                && caffeineCache.getNativeCache() instanceof LoadingCache<?, ?> loadingCache) {
+            return (LoadingCache<Object, Object>) loadingCache;
+        }
+        throw new IllegalStateException("Not a loading cache: " + cacheName);
+    }
+
+    /**
+     * Cache key that carries its loader. Equality is by key only, and the string
+     * form is the key's, so key-based eviction works as for plain keys.
+     */
+    private static final class LoaderKey {
+
+        private final Object key;
+        private final Supplier<?> loader;
+
+        private LoaderKey(Object key, Supplier<?> loader) {
+            this.key = key;
+            this.loader = loader;
+        }
+
+        private Object load() {
+            return loader.get();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof LoaderKey other && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return key.toString();
+        }
+    }
+}
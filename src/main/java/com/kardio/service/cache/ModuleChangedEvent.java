@@ -0,0 +1,35 @@
+package com.kardio.service.cache;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published when a write changes what module summaries show or where a module
+ * is listed: module create, update, delete and visibility changes, and
+ * vocabulary writes that change the module's vocabulary count.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ModuleChangedEvent {
+
+    private final UUID moduleId;
+
+    /**
+     * Whether the public listing changed: the module was public before or after
+     * the write and its presence or position there may have moved. When false,
+     * only cached entries that already contain the module are stale.
+     */
+    private final boolean listingChanged;
+
+    /**
+     * A change to the module's content that leaves every listing in place.
+     *
+     * @param moduleId Module ID
+     * @return The event
+     */
+    public static ModuleChangedEvent contentChanged(UUID moduleId) {
+        return new ModuleChangedEvent(moduleId, false);
+    }
+}
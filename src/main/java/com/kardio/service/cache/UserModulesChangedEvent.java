@@ -0,0 +1,17 @@
+package com.kardio.service.cache;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published when the modules listed for one user change: a study session was
+ * started, or a module was shared with or unshared from the user.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserModulesChangedEvent {
+
+    private final UUID userId;
+}
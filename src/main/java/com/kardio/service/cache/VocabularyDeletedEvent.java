@@ -0,0 +1,18 @@
+package com.kardio.service.cache;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published when a vocabulary is deleted, so open sessions of its module stop
+ * serving and accepting it.
+ */
+@Getter
+@RequiredArgsConstructor
+public class VocabularyDeletedEvent {
+
+    private final UUID vocabularyId;
+    private final UUID moduleId;
+}
@@ -7,6 +7,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
@@ -37,6 +38,9 @@ import com.kardio.repository.ClassModuleRepository;
 import com.kardio.repository.ClassRepository;
 import com.kardio.repository.UserRepository;
 import com.kardio.service.ClassService;
+import com.kardio.service.access.AccessChangedEvent;
+import com.kardio.service.access.AccessDecisionCache;
+import com.kardio.service.access.AccessResourceType;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -57,6 +61,8 @@ public class ClassServiceImpl implements ClassService {
     private final ClassMemberMapper classMemberMapper;
     private final ClassModuleMapper classModuleMapper;
     private final MessageSource messageSource;
+    private final AccessDecisionCache accessDecisionCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -196,6 +202,7 @@ public class ClassServiceImpl implements ClassService {
         // Soft delete
         classEntity.softDelete();
         classRepository.save(classEntity);
+        eventPublisher.publishEvent(AccessChangedEvent.forAll(AccessResourceType.CLASS, id));
 
         log.info("Class deleted successfully: {}", id);
         return SuccessResponse.of(messageSource.getMessage("success.deleted", new Object[]{
@@ -380,6 +387,11 @@ public class ClassServiceImpl implements ClassService {
         }
 
         // Check if user is a member
-        return classMemberRepository.existsByClassEntityIdAndUserId(classEntity.getId(), userId);
+        return accessDecisionCache
+            .isAllowed(
+                userId,
+                AccessResourceType.CLASS,
+                classEntity.getId(),
+                () -> classMemberRepository.existsByClassEntityIdAndUserId(classEntity.getId(), userId));
     }
 }
\ No newline at end of file
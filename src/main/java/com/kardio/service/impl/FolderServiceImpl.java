@@ -5,13 +5,17 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.kardio.constant.AppConstants.CacheNames;
 import com.kardio.dto.common.PageResponse;
+import com.kardio.dto.common.ResourceVersion;
 import com.kardio.dto.common.SuccessResponse;
+import com.kardio.dto.common.Versioned;
 import com.kardio.dto.folder.FolderCreateRequest;
 import com.kardio.dto.folder.FolderDetailedResponse;
 import com.kardio.dto.folder.FolderHierarchyResponse;
@@ -27,7 +31,13 @@ import com.kardio.mapper.StudyModuleMapper;
 import com.kardio.repository.FolderRepository;
 import com.kardio.repository.StudyModuleRepository;
 import com.kardio.repository.UserRepository;
+import com.kardio.repository.projection.ResourceVersionView;
 import com.kardio.service.FolderService;
+import com.kardio.service.access.AccessChangedEvent;
+import com.kardio.service.access.AccessDecisionCache;
+import com.kardio.service.access.AccessResourceType;
+import com.kardio.service.cache.FolderChangedEvent;
+import com.kardio.service.cache.HotReadCache;
 import com.kardio.util.PageUtils;
 
 import lombok.RequiredArgsConstructor;
@@ -44,6 +54,9 @@ public class FolderServiceImpl implements FolderService {
     private final FolderRepository folderRepository;
     private final UserRepository userRepository;
     private final StudyModuleRepository studyModuleRepository;
+    private final AccessDecisionCache accessDecisionCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HotReadCache hotReadCache;
 
     private final FolderMapper folderMapper;
     private final StudyModuleMapper studyModuleMapper;
@@ -81,6 +94,7 @@ public class FolderServiceImpl implements FolderService {
         // Create folder entity
         Folder folder = folderMapper.createFromRequest(request, user, parentFolder);
         Folder savedFolder = folderRepository.save(folder);
+        eventPublisher.publishEvent(new FolderChangedEvent(userId, null));
 
         log.info("Folder created successfully with ID: {}", savedFolder.getId());
         return folderMapper.toDto(savedFolder);
@@ -110,10 +124,7 @@ public class FolderServiceImpl implements FolderService {
         List<StudyModuleSummaryResponse> modules = studyModuleRepository
             .findByFolderId(id, Pageable.unpaged())
             .stream()
-            .map(module -> {
-                int vocabularyCount = (int) studyModuleRepository.countByFolderId(id);
-                return studyModuleMapper.toSummaryResponse(module, vocabularyCount);
-            })
+            .map(studyModuleMapper::toSummaryResponse)
             .toList();
 
         return folderMapper.toDetailedResponse(folder, subfolderResponses, modules);
@@ -156,6 +167,7 @@ public class FolderServiceImpl implements FolderService {
         // Update folder
         Folder updatedFolder = folderMapper.updateFromRequest(request, folder, parentFolder);
         Folder savedFolder = folderRepository.save(updatedFolder);
+        eventPublisher.publishEvent(new FolderChangedEvent(userId, id));
 
         log.info("Folder updated successfully: {}", savedFolder.getId());
         return folderMapper.toDto(savedFolder);
@@ -188,6 +200,8 @@ public class FolderServiceImpl implements FolderService {
         // Soft delete
         folder.softDelete();
         folderRepository.save(folder);
+        eventPublisher.publishEvent(AccessChangedEvent.forAll(AccessResourceType.FOLDER, id));
+        eventPublisher.publishEvent(new FolderChangedEvent(userId, id));
 
         log.info("Folder deleted successfully: {}", id);
         return SuccessResponse.of("Folder deleted successfully");
@@ -215,8 +229,16 @@ public class FolderServiceImpl implements FolderService {
     public PageResponse<FolderResponse> getSubfolders(UUID parentId, UUID userId, Pageable pageable) {
         log.debug("Getting subfolders for parent ID: {} and user ID: {}", parentId, userId);
 
-        // Validate parent folder and ownership
-        findFolderByIdAndValidateOwnership(parentId, userId);
+        // Validate parent folder and ownership; on a denial the full lookup picks the right error
+        final boolean owned = accessDecisionCache
+            .isAllowed(
+                userId,
+                AccessResourceType.FOLDER,
+                parentId,
+                () -> folderRepository.existsByIdAndUserId(parentId, userId));
+        if (!owned) {
+            findFolderByIdAndValidateOwnership(parentId, userId);
+        }
 
         Page<Folder> folderPage = folderRepository.findByParentFolderId(parentId, pageable);
         Page<FolderResponse> dtoPage = folderPage.map(folderMapper::toDto);
@@ -226,9 +248,33 @@ public class FolderServiceImpl implements FolderService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<FolderHierarchyResponse> getFolderHierarchy(UUID userId) {
+    public Versioned<List<FolderHierarchyResponse>> getFolderHierarchy(UUID userId, ResourceVersion current) {
         log.debug("Getting folder hierarchy for user ID: {}", userId);
 
+        // Concurrent misses share one load; the tree is reloaded before it expires, and
+        // at once if it was loaded at another version (eviction still pending on this node)
+        return hotReadCache
+            .getCurrent(
+                CacheNames.FOLDER_HIERARCHY,
+                userId,
+                () -> loadVersionedFolderHierarchy(userId),
+                cached -> cached.isAt(current));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getFolderHierarchyVersion(UUID userId) {
+        final ResourceVersionView version = folderRepository.findHierarchyVersion(userId);
+        return ResourceVersion.of(version.getLastModified(), version.getItemCount());
+    }
+
+    private Versioned<List<FolderHierarchyResponse>> loadVersionedFolderHierarchy(UUID userId) {
+        // Version first, so a concurrent change can only leave the tag older than the tree
+        final ResourceVersion version = getFolderHierarchyVersion(userId);
+        return new Versioned<>(version, loadFolderHierarchy(userId));
+    }
+
+    private List<FolderHierarchyResponse> loadFolderHierarchy(UUID userId) {
         // Validate user exists
         if (!userRepository.existsById(userId)) {
             log.error("User not found with ID: {}", userId);
@@ -257,6 +303,7 @@ public class FolderServiceImpl implements FolderService {
         if (request.getTargetParentFolderId() == null) {
             folder.setParentFolder(null);
             Folder savedFolder = folderRepository.save(folder);
+            eventPublisher.publishEvent(new FolderChangedEvent(userId, id));
             return folderMapper.toDto(savedFolder);
         }
 
@@ -287,6 +334,7 @@ public class FolderServiceImpl implements FolderService {
         // Move folder
         folder.setParentFolder(targetParent);
         Folder savedFolder = folderRepository.save(folder);
+        eventPublisher.publishEvent(new FolderChangedEvent(userId, id));
 
         log.info("Folder moved successfully: {}", savedFolder.getId());
         return folderMapper.toDto(savedFolder);
@@ -1,20 +1,42 @@
 package com.kardio.service.impl;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.kardio.dto.progress.LearningProgressAttemptRequest;
 import com.kardio.entity.LearningProgress;
 import com.kardio.entity.User;
 import com.kardio.entity.Vocabulary;
+import com.kardio.entity.enums.LearningStatus;
 import com.kardio.exception.KardioException;
 import com.kardio.repository.LearningProgressRepository;
 import com.kardio.repository.UserRepository;
 import com.kardio.repository.VocabularyRepository;
+import com.kardio.repository.projection.LearningProgressBatchScheduleView;
+import com.kardio.repository.projection.LearningProgressScheduleView;
 import com.kardio.service.LearningProgressService;
+import com.kardio.service.review.DueReviewQueue;
+import com.kardio.service.review.ReviewCardState;
+import com.kardio.service.review.ReviewGrade;
+import com.kardio.service.review.ReviewScheduler;
+import com.kardio.service.review.ReviewSchedulerResolver;
+import com.kardio.service.stats.UserStatsDelta;
+import com.kardio.service.stats.UserStatsWriter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,14 +49,19 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class LearningProgressServiceImpl implements LearningProgressService {
 
+    private static final int MAX_SCHEDULE_ROUNDS = 3;
+
     private final LearningProgressRepository learningProgressRepository;
     private final UserRepository userRepository;
     private final VocabularyRepository vocabularyRepository;
+    private final ReviewSchedulerResolver reviewSchedulerResolver;
+    private final DueReviewQueue dueReviewQueue;
+    private final UserStatsWriter userStatsWriter;
 // private final MessageSource messageSource;
 
     @Override
     @Transactional
-    public boolean recordAttempt(UUID userId, UUID vocabularyId, boolean isCorrect) {
+    public boolean recordAttempt(UUID userId, UUID vocabularyId, boolean isCorrect, Integer responseTimeMs) {
         log
             .debug(
                 "Recording attempt for user ID: {}, vocabulary ID: {}, isCorrect: {}",
@@ -42,25 +69,161 @@ public class LearningProgressServiceImpl implements LearningProgressService {
                 vocabularyId,
                 isCorrect);
 
-        try {
-            // Get or create learning progress entity
-            LearningProgress progress = getOrCreateProgress(userId, vocabularyId);
+        final ReviewScheduler scheduler = reviewSchedulerResolver.forUser(userId);
+        final List<LearningProgressAttemptRequest> attempts = List
+            .of(
+                LearningProgressAttemptRequest
+                    .builder()
+                    .vocabularyId(vocabularyId)
+                    .isCorrect(isCorrect)
+                    .responseTimeMs(responseTimeMs)
+                    .build());
 
-            // Calculate next review time based on spaced repetition algorithm
-            LocalDateTime nextReviewTime = calculateNextReviewTime(progress, isCorrect);
+        // Schedule from the current state, then write it with a single upsert that
+        // only applies if no other attempt was recorded in between
+        for (int round = 1; round <= MAX_SCHEDULE_ROUNDS; round++) {
+            final LocalDateTime now = currentTime();
+            final LearningProgressScheduleView current = learningProgressRepository
+                .findScheduleByVocabularyIdAndUserId(vocabularyId, userId)
+                .orElse(null);
 
-            // Record attempt
-            progress.recordAttempt(isCorrect, nextReviewTime);
+            final UserStatsDelta delta = new UserStatsDelta();
+            if (recordCardAttempts(userId, vocabularyId, current, attempts, scheduler, now, delta)) {
+                userStatsWriter.apply(userId, delta);
+                log.debug("Attempt recorded successfully for vocabulary ID: {}", vocabularyId);
+                return true;
+            }
+        }
 
-            // Save progress
-            learningProgressRepository.save(progress);
+        log.warn("Gave up recording attempt after concurrent updates, vocabulary ID: {}", vocabularyId);
+        return false;
+    }
 
-            log.debug("Attempt recorded successfully");
-            return true;
-        } catch (Exception e) {
-            log.error("Failed to record attempt: {}", e.getMessage());
+    @Override
+    @Transactional
+    public int recordAttempts(UUID userId, List<LearningProgressAttemptRequest> attempts) {
+        if (attempts == null || attempts.isEmpty()) {
+            return 0;
+        }
+
+        log.debug("Recording {} attempts in bulk for user ID: {}", attempts.size(), userId);
+
+        // Group attempts by card, keeping their order so repeated cards build on their previous result.
+        // Cards are written in vocabulary ID order, so concurrent batches lock rows in the same order
+        final Map<UUID, List<LearningProgressAttemptRequest>> attemptsByVocabulary = new TreeMap<>();
+        for (LearningProgressAttemptRequest attempt : attempts) {
+            attemptsByVocabulary.computeIfAbsent(attempt.getVocabularyId(), id -> new ArrayList<>()).add(attempt);
+        }
+
+        final ReviewScheduler scheduler = reviewSchedulerResolver.forUser(userId);
+        final UserStatsDelta delta = new UserStatsDelta();
+        final Set<UUID> pending = new TreeSet<>(attemptsByVocabulary.keySet());
+        int recorded = 0;
+
+        // Same upsert and expected-attempts guard as a single attempt; cards that changed
+        // concurrently are read again and rescheduled in the next round
+        for (int round = 1; round <= MAX_SCHEDULE_ROUNDS && !pending.isEmpty(); round++) {
+            final LocalDateTime now = currentTime();
+            final Map<UUID, LearningProgressBatchScheduleView> current = learningProgressRepository
+                .findSchedulesByUserIdAndVocabularyIdIn(userId, pending)
+                .stream()
+                .collect(Collectors.toMap(LearningProgressBatchScheduleView::getVocabularyId, Function.identity()));
+
+            final Iterator<UUID> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                final UUID vocabularyId = iterator.next();
+                if (recordCardAttempts(
+                    userId,
+                    vocabularyId,
+                    current.get(vocabularyId),
+                    attemptsByVocabulary.get(vocabularyId),
+                    scheduler,
+                    now,
+                    delta)) {
+                    iterator.remove();
+                    recorded++;
+                }
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            log.warn("Gave up recording attempts on {} vocabularies after concurrent updates", pending.size());
+        }
+
+        userStatsWriter.apply(userId, delta);
+
+        log.debug("Recorded attempts for {} vocabularies", recorded);
+        return recorded;
+    }
+
+    /**
+     * Schedules the attempts on one card from its current state and writes them
+     * with one guarded upsert.
+     *
+     * @param userId       User ID
+     * @param vocabularyId Vocabulary ID
+     * @param view         Current state, or null if the card has no progress
+     * @param attempts     Attempts on the card in order
+     * @param scheduler    The user's scheduler
+     * @param now          Attempt time
+     * @param delta        Statistics delta to add the written attempts to
+     * @return false if the card changed since its state was read
+     */
+    private boolean recordCardAttempts(
+            UUID userId,
+            UUID vocabularyId,
+            LearningProgressScheduleView view,
+            List<LearningProgressAttemptRequest> attempts,
+            ReviewScheduler scheduler,
+            LocalDateTime now,
+            UserStatsDelta delta) {
+        final ReviewCardState state = new ReviewCardState();
+        int correctCount = 0;
+        int incorrectCount = 0;
+        LearningStatus previousStatus = null;
+        long elapsedMinutes = 0;
+        if (view != null) {
+            state.copyFrom(view);
+            correctCount = countOrZero(view.getCorrectCount());
+            incorrectCount = countOrZero(view.getIncorrectCount());
+            previousStatus = view.getStatus();
+            elapsedMinutes = elapsedMinutes(view.getLastStudiedAt(), now);
+        }
+
+        int correctDelta = 0;
+        int intervalMinutes = 0;
+        for (LearningProgressAttemptRequest attempt : attempts) {
+            final boolean isCorrect = Boolean.TRUE.equals(attempt.getIsCorrect());
+            intervalMinutes = scheduler
+                .review(state, ReviewGrade.of(isCorrect, attempt.getResponseTimeMs()), elapsedMinutes);
+            correctDelta += isCorrect ? 1 : 0;
+            // Later attempts in the batch follow the first at the same time
+            elapsedMinutes = 0;
+        }
+        final int incorrectDelta = attempts.size() - correctDelta;
+
+        final LocalDateTime nextReviewAt = now.plusMinutes(intervalMinutes);
+        final int written = learningProgressRepository
+            .upsertAttempts(
+                userId,
+                vocabularyId,
+                correctDelta,
+                incorrectDelta,
+                now,
+                nextReviewAt,
+                state,
+                correctCount + incorrectCount);
+        if (written == 0) {
             return false;
         }
+
+        delta
+            .move(
+                previousStatus,
+                UserStatsDelta.statusFor(correctCount + correctDelta, incorrectCount + incorrectDelta));
+        attempts.forEach(attempt -> delta.attempt(Boolean.TRUE.equals(attempt.getIsCorrect()), now));
+        dueReviewQueue.reschedule(userId, vocabularyId, nextReviewAt);
+        return true;
     }
 
     @Override
@@ -82,6 +245,7 @@ public class LearningProgressServiceImpl implements LearningProgressService {
 
             // Save progress
             learningProgressRepository.save(progress);
+            dueReviewQueue.reschedule(userId, vocabularyId, nextReviewAt);
 
             log.debug("Next review time updated successfully");
             return true;
@@ -118,39 +282,35 @@ public class LearningProgressServiceImpl implements LearningProgressService {
                 () -> new KardioException("Vocabulary not found", org.springframework.http.HttpStatus.NOT_FOUND));
 
         LearningProgress newProgress = LearningProgress.builder().user(user).vocabulary(vocabulary).build();
+        newProgress = learningProgressRepository.save(newProgress);
 
-        return learningProgressRepository.save(newProgress);
+        final UserStatsDelta delta = new UserStatsDelta();
+        delta.move(null, newProgress.getStatus());
+        userStatsWriter.apply(userId, delta);
+
+        return newProgress;
     }
 
     /**
-     * Calculates the next review time based on spaced repetition.
-     * Simplified implementation of a spaced repetition algorithm.
+     * Minutes between the previous review and now.
      *
-     * @param progress  Current learning progress
-     * @param isCorrect Whether the latest attempt was correct
-     * @return Next review time
+     * @param lastStudiedAt Time of the previous review, may be null
+     * @param now           Current time
+     * @return Elapsed minutes, or 0 for a card that was never studied
      */
-    private LocalDateTime calculateNextReviewTime(LearningProgress progress, boolean isCorrect) {
-        LocalDateTime now = LocalDateTime.now();
-
-        if (!isCorrect) {
-            // If incorrect, review again sooner (30 minutes to 1 hour)
-            return now.plusMinutes(30 + (int) (Math.random() * 30));
-        }
-
-        // Calculate interval based on correct attempts
-        int correctCount = progress.getCorrectCount() != null ? progress.getCorrectCount() : 0;
+    private long elapsedMinutes(LocalDateTime lastStudiedAt, LocalDateTime now) {
+        return lastStudiedAt == null ? 0 : Math.max(0, Duration.between(lastStudiedAt, now).toMinutes());
+    }
 
-        // Simple exponential backoff
-        int hoursToAdd = switch (correctCount) {
-        case 0, 1 -> 4;    // 4 hours
-        case 2 -> 8;       // 8 hours
-        case 3 -> 24;      // 1 day
-        case 4 -> 72;      // 3 days
-        case 5 -> 168;     // 1 week
-        default -> 336;    // 2 weeks
-        };
+    /**
+     * Current time at the precision PostgreSQL stores, so review times kept in
+     * memory compare the same way as the stored ones.
+     */
+    private LocalDateTime currentTime() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
 
-        return now.plusHours(hoursToAdd);
+    private int countOrZero(Integer count) {
+        return count != null ? count : 0;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package com.kardio.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Service;
+
+import com.kardio.dto.review.DueReviewPageResponse;
+import com.kardio.dto.review.DueReviewResponse;
+import com.kardio.exception.KardioException;
+import com.kardio.repository.LearningProgressRepository;
+import com.kardio.service.ReviewService;
+import com.kardio.service.review.DueReviewCard;
+import com.kardio.service.review.DueReviewQueue;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of ReviewService.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewServiceImpl implements ReviewService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final LearningProgressRepository learningProgressRepository;
+    private final DueReviewQueue dueReviewQueue;
+    private final MessageSource messageSource;
+
+    @Override
+    public DueReviewPageResponse getDueReviews(
+            UUID userId,
+            int limit,
+            LocalDateTime afterDueAt,
+            UUID afterVocabularyId) {
+        if ((afterDueAt == null) != (afterVocabularyId == null)) {
+            throw KardioException.validationError(messageSource, "error.review.cursor");
+        }
+
+        final int pageSize = Math.max(1, Math.min(limit, Math.min(MAX_PAGE_SIZE, dueReviewQueue.getCapacity() - 1)));
+        log.debug("Getting up to {} due reviews for user ID: {}", pageSize, userId);
+
+        // One extra card tells whether another page exists
+        final LocalDateTime now = LocalDateTime.now();
+        final List<DueReviewCard> cards;
+        if (afterDueAt == null) {
+            cards = dueReviewQueue.poll(userId, pageSize + 1);
+        } else {
+            cards = learningProgressRepository
+                .findDueReviews(userId, now, afterDueAt, afterVocabularyId, pageSize + 1)
+                .stream()
+                .map(DueReviewCard::from)
+                .toList();
+        }
+
+        final boolean hasMore = cards.size() > pageSize;
+        final List<DueReviewResponse> content = cards
+            .stream()
+            .limit(pageSize)
+            .map(card -> toResponse(card, now))
+            .toList();
+        final DueReviewResponse last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return DueReviewPageResponse
+            .builder()
+            .content(content)
+            .size(content.size())
+            .hasMore(hasMore)
+            .nextAfterDueAt(hasMore ? last.getNextReviewAt() : null)
+            .nextAfterVocabularyId(hasMore ? last.getVocabularyId() : null)
+            .build();
+    }
+
+    private DueReviewResponse toResponse(DueReviewCard card, LocalDateTime now) {
+        return DueReviewResponse
+            .builder()
+            .vocabularyId(card.getVocabularyId())
+            .moduleId(card.getModuleId())
+            .term(card.getTerm())
+            .definition(card.getDefinition())
+            .nextReviewAt(card.getNextReviewAt())
+            .overdueMinutes(Math.max(0, Duration.between(card.getNextReviewAt(), now).toMinutes()))
+            .build();
+    }
+}
@@ -2,16 +2,15 @@ package com.kardio.service.impl;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.retry.annotation.Backoff;
@@ -19,8 +18,13 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kardio.constant.AppConstants.CacheNames;
 import com.kardio.dto.common.PageResponse;
+import com.kardio.dto.common.ResourceVersion;
+import com.kardio.dto.common.SerializedResponse;
 import com.kardio.dto.common.SuccessResponse;
+import com.kardio.dto.common.Versioned;
 import com.kardio.dto.module.StudyModuleCreateRequest;
 import com.kardio.dto.module.StudyModuleDetailedResponse;
 import com.kardio.dto.module.StudyModuleResponse;
@@ -36,11 +40,20 @@ import com.kardio.exception.KardioException;
 import com.kardio.mapper.StudyModuleMapper;
 import com.kardio.repository.FolderRepository;
 import com.kardio.repository.LearningProgressRepository;
+import com.kardio.repository.ModuleAccessRepository;
 import com.kardio.repository.SharedStudyModuleRepository;
 import com.kardio.repository.StudyModuleRepository;
+import com.kardio.repository.UserModuleActivityRepository;
 import com.kardio.repository.UserRepository;
-import com.kardio.repository.VocabularyRepository;
+import com.kardio.repository.projection.ModuleVersionView;
 import com.kardio.service.StudyModuleService;
+import com.kardio.service.access.AccessDecisionCache;
+import com.kardio.service.access.AccessResourceType;
+import com.kardio.service.access.ModuleAccessWriter;
+import com.kardio.service.cache.FolderChangedEvent;
+import com.kardio.service.cache.HotReadCache;
+import com.kardio.service.cache.ModuleChangedEvent;
+import com.kardio.service.cache.UserModulesChangedEvent;
 import com.kardio.util.PageUtils;
 
 import lombok.RequiredArgsConstructor;
@@ -54,10 +67,16 @@ public class StudyModuleServiceImpl implements StudyModuleService {
     private final StudyModuleRepository studyModuleRepository;
     private final FolderRepository folderRepository;
     private final UserRepository userRepository;
-    private final VocabularyRepository vocabularyRepository;
     private final LearningProgressRepository learningProgressRepository;
     private final SharedStudyModuleRepository sharedStudyModuleRepository;
+    private final UserModuleActivityRepository userModuleActivityRepository;
+    private final ModuleAccessRepository moduleAccessRepository;
+    private final ModuleAccessWriter moduleAccessWriter;
+    private final AccessDecisionCache accessDecisionCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HotReadCache hotReadCache;
     private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
     private final StudyModuleMapper studyModuleMapper;
 
     @Override
@@ -93,6 +112,12 @@ public class StudyModuleServiceImpl implements StudyModuleService {
         // Create module entity
         StudyModule module = studyModuleMapper.createFromRequest(request, creator, folder);
         StudyModule savedModule = studyModuleRepository.save(module);
+        moduleAccessWriter.moduleCreated(savedModule);
+        final boolean listedPublicly = savedModule.getVisibility() == VisibilityType.PUBLIC;
+        eventPublisher.publishEvent(new ModuleChangedEvent(savedModule.getId(), listedPublicly));
+        if (folder != null) {
+            eventPublisher.publishEvent(new FolderChangedEvent(creatorId, null));
+        }
 
         log.info("Study module created successfully with ID: {}", savedModule.getId());
         return studyModuleMapper.toDto(savedModule);
@@ -103,13 +128,36 @@ public class StudyModuleServiceImpl implements StudyModuleService {
     @Retryable(value = {
             Exception.class
     }, maxAttempts = 3, backoff = @Backoff(delay = 1000))
-    public StudyModuleResponse getModuleById(UUID id, UUID userId) {
+    public Versioned<StudyModuleResponse> getModuleById(UUID id, UUID userId, ResourceVersion current) {
         log.debug("Getting study module by ID: {} for user ID: {}", id, userId);
 
-        StudyModule module = findModuleById(id);
+        // Shared by every user; access is checked on the cached copy. A copy loaded at
+        // another version (eviction pending on this node, or a creator/folder rename
+        // that does not evict) is reloaded, so the body matches the version it is tagged with
+        Versioned<StudyModuleResponse> versioned = hotReadCache
+            .getCurrent(CacheNames.MODULES, id, () -> loadModule(id), cached -> cached.isAt(current));
+        StudyModuleResponse module = versioned.getValue();
 
         // Check access
-        if (!canAccessModule(module, userId)) {
+        if (!canAccessModule(module.getId(), module.getCreator().getId(), module.getVisibility(), userId)) {
+            log.error("User {} does not have access to module {}", userId, id);
+            throw KardioException
+                .forbidden(
+                    messageSource,
+                    "error.forbidden.resource",
+                    messageSource.getMessage("entity.studyModule", null, LocaleContextHolder.getLocale()));
+        }
+
+        return versioned;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getModuleVersion(UUID id, UUID userId) {
+        ModuleVersionView version = findVersionById(id);
+
+        // Same check as getModuleById, so a 304 never answers a user without access
+        if (!canAccessModule(id, version.getCreatorId(), VisibilityType.valueOf(version.getVisibility()), userId)) {
             log.error("User {} does not have access to module {}", userId, id);
             throw KardioException
                 .forbidden(
@@ -118,7 +166,25 @@ public class StudyModuleServiceImpl implements StudyModuleService {
                     messageSource.getMessage("entity.studyModule", null, LocaleContextHolder.getLocale()));
         }
 
-        return studyModuleMapper.toDto(module);
+        return toResourceVersion(version);
+    }
+
+    private Versioned<StudyModuleResponse> loadModule(UUID id) {
+        // Version first: a change committed in between only makes the tag older than
+        // the body, which costs a reload, never a stale body under a newer tag
+        final ResourceVersion version = toResourceVersion(findVersionById(id));
+        return new Versioned<>(version, studyModuleMapper.toDto(findModuleById(id)));
+    }
+
+    private ModuleVersionView findVersionById(UUID id) {
+        return studyModuleRepository.findVersionById(id).orElseThrow(() -> {
+            log.error("Study module not found with ID: {}", id);
+            return KardioException.resourceNotFound(messageSource, "entity.studyModule", id);
+        });
+    }
+
+    private static ResourceVersion toResourceVersion(ModuleVersionView version) {
+        return ResourceVersion.of(version.getLastModified(), version.getVocabularyCount());
     }
 
     @Override
@@ -139,7 +205,7 @@ public class StudyModuleServiceImpl implements StudyModuleService {
         }
 
         // Get vocabulary count and statistics
-        ModuleStatistics statistics = calculateModuleStatistics(id, userId);
+        ModuleStatistics statistics = calculateModuleStatistics(module, userId);
 
         return studyModuleMapper
             .toDetailedResponse(
@@ -171,8 +237,20 @@ public class StudyModuleServiceImpl implements StudyModuleService {
         Folder folder = getAndValidateFolderForUser(request.getFolderId(), userId);
 
         // Update module
+        VisibilityType previousVisibility = module.getVisibility();
+        UUID previousFolderId = module.getFolder() != null ? module.getFolder().getId() : null;
         StudyModule updatedModule = studyModuleMapper.updateFromRequest(request, module, folder);
         StudyModule savedModule = studyModuleRepository.save(updatedModule);
+        if (savedModule.getVisibility() != previousVisibility) {
+            moduleAccessWriter.visibilityChanged(savedModule);
+        }
+        final boolean listedPublicly = previousVisibility == VisibilityType.PUBLIC
+                || savedModule.getVisibility() == VisibilityType.PUBLIC;
+        eventPublisher.publishEvent(new ModuleChangedEvent(savedModule.getId(), listedPublicly));
+        UUID folderId = savedModule.getFolder() != null ? savedModule.getFolder().getId() : null;
+        if (!Objects.equals(previousFolderId, folderId)) {
+            eventPublisher.publishEvent(new FolderChangedEvent(userId, null));
+        }
 
         log.info("Study module updated successfully: {}", savedModule.getId());
         return studyModuleMapper.toDto(savedModule);
@@ -222,6 +300,11 @@ public class StudyModuleServiceImpl implements StudyModuleService {
         // Soft delete
         module.softDelete();
         studyModuleRepository.save(module);
+        moduleAccessWriter.moduleDeleted(id);
+        eventPublisher.publishEvent(new ModuleChangedEvent(id, module.getVisibility() == VisibilityType.PUBLIC));
+        if (module.getFolder() != null) {
+            eventPublisher.publishEvent(new FolderChangedEvent(userId, null));
+        }
 
         log.info("Study module deleted successfully: {}", id);
         return SuccessResponse.of(messageSource.getMessage("success.deleted", new Object[]{
@@ -273,10 +356,20 @@ public class StudyModuleServiceImpl implements StudyModuleService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "publicModules", key = "#pageable.pageNumber + '-' + #pageable.pageSize")
-    public PageResponse<StudyModuleSummaryResponse> getPublicModules(Pageable pageable) {
+    public SerializedResponse<PageResponse<StudyModuleSummaryResponse>> getPublicModules(Pageable pageable) {
         log.debug("Getting public modules");
 
+        // Hot pages: concurrent misses share one load, and pages are reloaded before they expire.
+        // Pages are cached as JSON and gzip bytes, so hits skip serialization and compression.
+        final String key = pageable.getPageNumber() + "-" + pageable.getPageSize() + "-" + pageable.getSort();
+        return hotReadCache
+            .get(
+                CacheNames.PUBLIC_MODULES,
+                key,
+                () -> SerializedResponse.of(objectMapper, loadPublicModules(pageable)));
+    }
+
+    private PageResponse<StudyModuleSummaryResponse> loadPublicModules(Pageable pageable) {
         Page<StudyModule> modulePage = studyModuleRepository.findByVisibility(VisibilityType.PUBLIC, pageable);
 
         if (modulePage.isEmpty()) {
@@ -316,8 +409,9 @@ public class StudyModuleServiceImpl implements StudyModuleService {
             throw KardioException.validationError(messageSource, "error.validation.searchterm", 2);
         }
 
-        // Get appropriate page of modules based on search criteria
-        Page<StudyModule> modulePage = getSearchModulesPage(term, publicOnly, userId, pageable);
+        // Results are ordered by relevance, so only the page position is used
+        Pageable rankedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Page<StudyModule> modulePage = getSearchModulesPage(term, publicOnly, userId, rankedPageable);
 
         return createSummaryPageResponse(modulePage, pageable);
     }
@@ -325,17 +419,10 @@ public class StudyModuleServiceImpl implements StudyModuleService {
     private Page<StudyModule> getSearchModulesPage(String term, boolean publicOnly, UUID userId, Pageable pageable) {
         if (publicOnly) {
             // Search only public modules
-            return studyModuleRepository.searchPublicByNameOrDescription(term, VisibilityType.PUBLIC, pageable);
+            return studyModuleRepository.searchPublicByNameOrDescription(term, pageable);
         } else if (userId != null) {
-            // Filter accessible modules after search
-            Page<StudyModule> allModulesPage = studyModuleRepository.searchByNameOrDescription(term, pageable);
-            List<StudyModule> accessibleModules = allModulesPage
-                .getContent()
-                .stream()
-                .filter(module -> canAccessModule(module, userId))
-                .toList();
-
-            return new PageImpl<>(accessibleModules, pageable, accessibleModules.size());
+            // Search only modules the user can access
+            return studyModuleRepository.searchAccessibleByNameOrDescription(term, userId, pageable);
         } else {
             // Search all modules (admin only)
             return studyModuleRepository.searchByNameOrDescription(term, pageable);
@@ -376,6 +463,8 @@ public class StudyModuleServiceImpl implements StudyModuleService {
         if (module.getVisibility() == VisibilityType.PRIVATE) {
             module.setVisibility(VisibilityType.SHARED);
             studyModuleRepository.save(module);
+            moduleAccessWriter.visibilityChanged(module);
+            eventPublisher.publishEvent(ModuleChangedEvent.contentChanged(module.getId()));
         }
     }
 
@@ -400,6 +489,8 @@ public class StudyModuleServiceImpl implements StudyModuleService {
                     SharedStudyModule sharedModule = SharedStudyModule.builder().studyModule(module).user(user).build();
 
                     sharedStudyModuleRepository.save(sharedModule);
+                    moduleAccessWriter.shareAdded(module, userId);
+                    eventPublisher.publishEvent(new UserModulesChangedEvent(userId));
                     successCount++;
                 }
             } catch (Exception e) {
@@ -431,6 +522,8 @@ public class StudyModuleServiceImpl implements StudyModuleService {
 
         // Delete sharing record
         sharedStudyModuleRepository.deleteByStudyModuleIdAndUserId(id, userId);
+        moduleAccessWriter.shareRemoved(id, userId);
+        eventPublisher.publishEvent(new UserModulesChangedEvent(userId));
 
         // Update visibility if needed
         updateModuleVisibilityAfterUnshare(module);
@@ -448,13 +541,15 @@ public class StudyModuleServiceImpl implements StudyModuleService {
             if (shareCount == 0) {
                 module.setVisibility(VisibilityType.PRIVATE);
                 studyModuleRepository.save(module);
+                moduleAccessWriter.visibilityChanged(module);
+                eventPublisher.publishEvent(ModuleChangedEvent.contentChanged(module.getId()));
             }
         }
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "recentModules", key = "#userId + '-' + #limit")
+    @Cacheable(value = CacheNames.RECENT_MODULES, key = "#userId + '-' + #limit")
     public List<StudyModuleSummaryResponse> getRecentModules(UUID userId, int limit) {
         log.debug("Getting {} recent modules for user ID: {}", limit, userId);
 
@@ -464,27 +559,19 @@ public class StudyModuleServiceImpl implements StudyModuleService {
             throw KardioException.resourceNotFound(messageSource, "entity.user", userId);
         }
 
+        // Per-user activity index, most recent first
         Pageable limitedRequest = PageRequest.of(0, limit);
-        List<StudyModule> modules = studyModuleRepository.findRecentModules(userId, limitedRequest);
-
-        // Get vocabulary counts efficiently
-        List<UUID> moduleIds = modules.stream().map(StudyModule::getId).toList();
+        List<StudyModule> modules = userModuleActivityRepository.findRecentModules(userId, limitedRequest);
 
-        Map<UUID, Integer> vocabularyCounts = getVocabularyCounts(moduleIds);
-
-        return modules
-            .stream()
-            .map(
-                module -> studyModuleMapper.toSummaryResponse(module, vocabularyCounts.getOrDefault(module.getId(), 0)))
-            .toList();
+        return modules.stream().map(studyModuleMapper::toSummaryResponse).toList();
     }
 
     /**
      * Calculate statistics for a module
      */
-    private ModuleStatistics calculateModuleStatistics(UUID moduleId, UUID userId) {
-        // Get vocabulary count
-        int vocabularyCount = (int) vocabularyRepository.countByModuleId(moduleId);
+    private ModuleStatistics calculateModuleStatistics(StudyModule module, UUID userId) {
+        final UUID moduleId = module.getId();
+        int vocabularyCount = module.getVocabularyCount();
 
         double averageAccuracy = 0.0;
         double completionPercentage = 0.0;
@@ -504,7 +591,8 @@ public class StudyModuleServiceImpl implements StudyModuleService {
     }
 
     /**
-     * Create summary page response from page of modules and vocabulary counts
+     * Create summary page response from page of modules; vocabulary counts are
+     * read from the modules themselves
      */
     private PageResponse<StudyModuleSummaryResponse> createSummaryPageResponse(
             Page<StudyModule> modulePage,
@@ -514,39 +602,7 @@ public class StudyModuleServiceImpl implements StudyModuleService {
             return PageUtils.emptyPageResponse(pageable);
         }
 
-        // Get module IDs efficiently
-        List<UUID> moduleIds = modulePage.getContent().stream().map(StudyModule::getId).toList();
-
-        // Get vocabulary counts in a single batch query
-        Map<UUID, Integer> vocabularyCounts = getVocabularyCounts(moduleIds);
-
-        // Define mapper function
-        Function<StudyModule, StudyModuleSummaryResponse> mapper = module -> studyModuleMapper
-            .toSummaryResponse(module, vocabularyCounts.getOrDefault(module.getId(), 0));
-
-        return PageUtils.createPageResponse(modulePage, mapper);
-    }
-
-    /**
-     * Get vocabulary counts for multiple modules in a single query
-     */
-    private Map<UUID, Integer> getVocabularyCounts(List<UUID> moduleIds) {
-        if (moduleIds.isEmpty()) {
-            return Map.of();
-        }
-
-        // Efficient batch query to get counts for all modules at once
-        List<Object[]> countsData = vocabularyRepository.countVocabulariesForModules(moduleIds);
-
-        return countsData
-            .stream()
-            .collect(
-                Collectors
-                    .toMap(
-                        row -> (UUID) row[0],  // moduleId
-                        row -> ((Number) row[1]).intValue(),  // count
-                        (a, b) -> a  // In case of duplicates, keep first
-                    ));
+        return PageUtils.createPageResponse(modulePage, studyModuleMapper::toSummaryResponse);
     }
 
     /**
@@ -563,19 +619,31 @@ public class StudyModuleServiceImpl implements StudyModuleService {
      * Check if a user can access a module
      */
     private boolean canAccessModule(StudyModule module, UUID userId) {
+        return canAccessModule(module.getId(), module.getCreator().getId(), module.getVisibility(), userId);
+    }
+
+    /**
+     * Check if a user can access a module, given its owner and visibility
+     */
+    private boolean canAccessModule(UUID moduleId, UUID creatorId, VisibilityType visibility, UUID userId) {
         // Admin access or public module
-        if (userId == null || module.getVisibility() == VisibilityType.PUBLIC) {
+        if (userId == null || visibility == VisibilityType.PUBLIC) {
             return true;
         }
 
         // Owner access
-        if (module.getCreator().getId().equals(userId)) {
+        if (creatorId.equals(userId)) {
             return true;
         }
 
         // Shared access
-        if (module.getVisibility() == VisibilityType.SHARED) {
-            return sharedStudyModuleRepository.existsByStudyModuleIdAndUserId(module.getId(), userId);
+        if (visibility == VisibilityType.SHARED) {
+            return accessDecisionCache
+                .isAllowed(
+                    userId,
+                    AccessResourceType.MODULE,
+                    moduleId,
+                    () -> moduleAccessRepository.existsByUserIdAndModuleId(userId, moduleId));
         }
 
         return false;
@@ -1,19 +1,23 @@
 package com.kardio.service.impl;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +25,9 @@ import com.kardio.constant.AppConstants.EntityNames;
 import com.kardio.constant.AppConstants.ErrorMessages;
 import com.kardio.dto.common.PageResponse;
 import com.kardio.dto.common.SuccessResponse;
+import com.kardio.dto.progress.LearningProgressAttemptRequest;
+import com.kardio.dto.progress.LearningProgressBatchUpdateRequest;
+import com.kardio.dto.session.SessionCardResponse;
 import com.kardio.dto.session.SessionItemAnalysisResponse;
 import com.kardio.dto.session.StudySessionCreateRequest;
 import com.kardio.dto.session.StudySessionDetailedResponse;
@@ -31,19 +38,34 @@ import com.kardio.entity.SessionItem;
 import com.kardio.entity.StudyModule;
 import com.kardio.entity.StudySession;
 import com.kardio.entity.User;
-import com.kardio.entity.Vocabulary;
 import com.kardio.entity.enums.SessionType;
 import com.kardio.exception.KardioException;
 import com.kardio.mapper.SessionItemMapper;
 import com.kardio.mapper.StudySessionMapper;
 import com.kardio.repository.SessionItemRepository;
+import com.kardio.repository.SessionVocabularyStatRepository;
 import com.kardio.repository.StreakRepository;
 import com.kardio.repository.StudyModuleRepository;
 import com.kardio.repository.StudySessionRepository;
+import com.kardio.repository.UserDailyActivityRepository;
+import com.kardio.repository.UserModuleActivityRepository;
 import com.kardio.repository.UserRepository;
 import com.kardio.repository.VocabularyRepository;
 import com.kardio.service.LearningProgressService;
 import com.kardio.service.StudySessionService;
+import com.kardio.service.access.AccessDecisionCache;
+import com.kardio.service.access.AccessResourceType;
+import com.kardio.service.attempt.AttemptWriteBuffer;
+import com.kardio.service.attempt.BufferedAttempt;
+import com.kardio.service.cache.UserModulesChangedEvent;
+import com.kardio.service.session.ActiveSession;
+import com.kardio.service.session.ActiveSessionRegistry;
+import com.kardio.service.session.DailyActivityWriter;
+import com.kardio.service.session.SessionAttemptTally;
+import com.kardio.service.session.SessionCard;
+import com.kardio.service.session.SessionCardDeck;
+import com.kardio.service.session.SessionClosedEvent;
+import com.kardio.service.session.SessionTallyWriter;
 import com.kardio.util.PageUtils;
 
 import lombok.RequiredArgsConstructor;
@@ -57,16 +79,28 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class StudySessionServiceImpl implements StudySessionService {
 
+    private static final int MAX_NEXT_CARDS = 50;
+    private static final Set<SessionType> SERVED_SESSION_TYPES = EnumSet.of(SessionType.LEARN, SessionType.FLASHCARD);
+
     private final StudySessionRepository studySessionRepository;
     private final SessionItemRepository sessionItemRepository;
+    private final SessionVocabularyStatRepository sessionVocabularyStatRepository;
     private final StudyModuleRepository studyModuleRepository;
     private final UserRepository userRepository;
     private final VocabularyRepository vocabularyRepository;
     private final StreakRepository streakRepository;
+    private final UserModuleActivityRepository userModuleActivityRepository;
+    private final UserDailyActivityRepository userDailyActivityRepository;
+    private final DailyActivityWriter dailyActivityWriter;
     private final StudySessionMapper studySessionMapper;
     private final SessionItemMapper sessionItemMapper;
 // private final StudyModuleMapper studyModuleMapper;
     private final LearningProgressService learningProgressService;
+    private final AttemptWriteBuffer attemptWriteBuffer;
+    private final ActiveSessionRegistry activeSessionRegistry;
+    private final SessionTallyWriter sessionTallyWriter;
+    private final AccessDecisionCache accessDecisionCache;
+    private final ApplicationEventPublisher eventPublisher;
     private final MessageSource messageSource;
 
     @Override
@@ -90,7 +124,7 @@ public class StudySessionServiceImpl implements StudySessionService {
         });
 
         // Check if module is accessible to user
-        if (!studyModuleRepository.isAccessibleToUser(request.getModuleId(), userId)) {
+        if (!isModuleAccessible(request.getModuleId(), userId)) {
             log.error("User {} does not have access to module {}", userId, request.getModuleId());
             throw KardioException
                 .forbidden(
@@ -102,12 +136,15 @@ public class StudySessionServiceImpl implements StudySessionService {
         // Create session entity
         final StudySession session = studySessionMapper.createSession(user, module, request.getSessionType());
         final StudySession savedSession = studySessionRepository.save(session);
+        registerActiveSession(savedSession);
 
         // Record streak
         updateUserStreak(user);
 
-        // Update module last studied time
-        updateModuleLastStudiedTime(module);
+        // Record the user's activity on the module
+        userModuleActivityRepository.recordSession(userId, module.getId(), savedSession.getStartTime());
+        eventPublisher.publishEvent(new UserModulesChangedEvent(userId));
+        dailyActivityWriter.recordSessionStarted(savedSession);
 
         log.info("Session created successfully with ID: {}", savedSession.getId());
         return studySessionMapper.toDto(savedSession);
@@ -129,8 +166,9 @@ public class StudySessionServiceImpl implements StudySessionService {
 
         final StudySession session = findSessionByIdAndValidateOwnership(id, userId);
 
-        // Get session items
-        final List<SessionItem> items = sessionItemRepository.findBySessionId(id);
+        // Get session items, bounded by the start time so only relevant partitions are scanned
+        final List<SessionItem> items = sessionItemRepository
+            .findBySessionIdAndCreatedAtGreaterThanEqual(id, session.getStartTime());
 
         return studySessionMapper.toDetailedResponse(session, sessionItemMapper.toDtoList(items));
     }
@@ -148,50 +186,114 @@ public class StudySessionServiceImpl implements StudySessionService {
                 request.getSessionId(),
                 request.getVocabularyId());
 
-        final StudySession session = findSessionByIdAndValidateOwnership(request.getSessionId(), userId);
-
-        // Check if session is active
-        if (session.getEndTime() != null) {
-            log.error("Cannot record attempt for ended session: {}", request.getSessionId());
-            throw KardioException.validationError(messageSource, "error.session.ended");
-        }
+        final ActiveSession activeSession = findActiveSessionAndValidateOwnership(request.getSessionId(), userId);
+        validateVocabulariesInModule(activeSession, List.of(request.getVocabularyId()));
 
-        // Validate and get vocabulary
-        final Vocabulary vocabulary = vocabularyRepository.findById(request.getVocabularyId()).orElseThrow(() -> {
-            log.error("Vocabulary not found with ID: {}", request.getVocabularyId());
-            return KardioException.resourceNotFound(messageSource, EntityNames.VOCABULARY, request.getVocabularyId());
-        });
+        final boolean isCorrect = Boolean.TRUE.equals(request.getIsCorrect());
 
-        // Check if vocabulary belongs to session's module
-        if (!vocabulary.getModule().getId().equals(session.getModule().getId())) {
-            log
-                .error(
-                    "Vocabulary {} does not belong to session's module {}",
-                    request.getVocabularyId(),
-                    session.getModule().getId());
-            throw KardioException.validationError(messageSource, "error.vocabulary.notinmodule");
+        // Write-behind mode: acknowledge now and let the buffer persist the attempt
+        if (attemptWriteBuffer.isEnabled()) {
+            attemptWriteBuffer
+                .offer(
+                    BufferedAttempt
+                        .builder()
+                        .sessionId(activeSession.getSessionId())
+                        .userId(userId)
+                        .vocabularyId(request.getVocabularyId())
+                        .correct(isCorrect)
+                        .responseTimeMs(request.getResponseTimeMs())
+                        .build());
+            activeSession.recordAttempts(1, isCorrect ? 1 : 0);
+            if (!isCorrect) {
+                activeSession.requeueCard(request.getVocabularyId());
+            }
+
+            log.debug("Attempt buffered for session: {}", activeSession.getSessionId());
+            return studySessionMapper.toActiveSessionResponse(activeSession);
         }
 
-        // Record attempt in session
-        final boolean isCorrect = Boolean.TRUE.equals(request.getIsCorrect());
-        session.recordAttempt(isCorrect);
-
         // Create session item
-        final SessionItem item = sessionItemMapper.createFromRequest(session, vocabulary, request);
+        final SessionItem item = sessionItemMapper
+            .createFromRequest(
+                studySessionRepository.getReferenceById(activeSession.getSessionId()),
+                vocabularyRepository.getReferenceById(request.getVocabularyId()),
+                request);
         sessionItemRepository.save(item);
 
         // Update learning progress
-        learningProgressService.recordAttempt(userId, vocabulary.getId(), isCorrect);
+        learningProgressService
+            .recordAttempt(userId, request.getVocabularyId(), isCorrect, request.getResponseTimeMs());
+
+        // Update session counters and analysis tallies
+        writeTallyToOpenSession(
+            activeSession,
+            new SessionAttemptTally().add(request.getVocabularyId(), isCorrect, request.getResponseTimeMs()));
+        activeSession.recordAttempts(1, isCorrect ? 1 : 0);
+        if (!isCorrect) {
+            activeSession.requeueCard(request.getVocabularyId());
+        }
 
-        // Save updated session
-        final StudySession updatedSession = studySessionRepository.save(session);
+        log.info("Attempt recorded successfully for session: {}", activeSession.getSessionId());
+        return studySessionMapper.toActiveSessionResponse(activeSession);
+    }
+
+    @Override
+    @Transactional
+    public StudySessionResponse recordAttempts(LearningProgressBatchUpdateRequest request, UUID userId) {
+        Objects.requireNonNull(request, "Batch attempt request cannot be null");
+        Objects.requireNonNull(request.getSessionId(), "Session ID cannot be null");
+        Objects.requireNonNull(request.getAttempts(), "Attempts cannot be null");
+
+        final List<LearningProgressAttemptRequest> attempts = Arrays.asList(request.getAttempts());
+
+        log.info("Recording {} attempts for session ID: {}", attempts.size(), request.getSessionId());
+
+        final ActiveSession activeSession = findActiveSessionAndValidateOwnership(request.getSessionId(), userId);
 
-        log.info("Attempt recorded successfully for session: {}", session.getId());
-        return studySessionMapper.toDto(updatedSession);
+        // Validate all vocabularies against the session's module
+        final List<UUID> vocabularyIds = attempts
+            .stream()
+            .map(LearningProgressAttemptRequest::getVocabularyId)
+            .distinct()
+            .toList();
+        validateVocabulariesInModule(activeSession, vocabularyIds);
+
+        // Build items for a single JDBC batch insert
+        final StudySession session = studySessionRepository.getReferenceById(activeSession.getSessionId());
+        final List<SessionItem> items = new ArrayList<>(attempts.size());
+        final SessionAttemptTally tally = new SessionAttemptTally();
+        for (LearningProgressAttemptRequest attempt : attempts) {
+            final boolean isCorrect = Boolean.TRUE.equals(attempt.getIsCorrect());
+            tally.add(attempt.getVocabularyId(), isCorrect, attempt.getResponseTimeMs());
+            if (!isCorrect) {
+                activeSession.requeueCard(attempt.getVocabularyId());
+            }
+            items
+                .add(
+                    sessionItemMapper
+                        .createFromAttempt(
+                            session,
+                            vocabularyRepository.getReferenceById(attempt.getVocabularyId()),
+                            attempt));
+        }
+        sessionItemRepository.saveAll(items);
+
+        // Update learning progress in bulk
+        learningProgressService.recordAttempts(userId, attempts);
+
+        // Update session counters and analysis tallies
+        writeTallyToOpenSession(activeSession, tally);
+        activeSession.recordAttempts(tally.getTotalItems(), tally.getCorrectItems());
+
+        log.info("{} attempts recorded successfully for session: {}", attempts.size(), activeSession.getSessionId());
+        return studySessionMapper.toActiveSessionResponse(activeSession);
     }
 
     @Override
     @Transactional
+    @Retryable(value = {
+            ObjectOptimisticLockingFailureException.class
+    }, maxAttempts = 3, backoff = @Backoff(delay = 50))
     public StudySessionResponse endSession(StudySessionEndRequest request, UUID userId) {
         Objects.requireNonNull(request, "End session request cannot be null");
         Objects.requireNonNull(request.getSessionId(), "Session ID cannot be null");
@@ -209,6 +311,8 @@ public class StudySessionServiceImpl implements StudySessionService {
         // End session
         session.endSession();
         final StudySession savedSession = studySessionRepository.save(session);
+        eventPublisher.publishEvent(new SessionClosedEvent(savedSession.getId()));
+        dailyActivityWriter.recordSessionEnded(savedSession);
 
         log.info("Session ended successfully: {}", savedSession.getId());
         return studySessionMapper.toDto(savedSession);
@@ -242,7 +346,7 @@ public class StudySessionServiceImpl implements StudySessionService {
             throw KardioException.resourceNotFound(messageSource, EntityNames.MODULE, moduleId);
         }
 
-        if (!studyModuleRepository.isAccessibleToUser(moduleId, userId)) {
+        if (!isModuleAccessible(moduleId, userId)) {
             log.error("User {} does not have access to module {}", userId, moduleId);
             throw KardioException
                 .forbidden(
@@ -278,15 +382,31 @@ public class StudySessionServiceImpl implements StudySessionService {
         return PageUtils.createPageResponse(sessionPage, studySessionMapper::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<SessionCardResponse> getNextCards(UUID id, int count, UUID userId) {
+        log.debug("Getting next {} cards for session ID: {}", count, id);
+
+        final ActiveSession activeSession = findActiveSessionAndValidateOwnership(id, userId);
+        final SessionCardDeck deck = activeSession.getDeck();
+        if (deck == null) {
+            log.error("Session {} of type {} does not serve cards", id, activeSession.getSessionType());
+            throw KardioException.validationError(messageSource, "error.session.next.unsupported");
+        }
+
+        final List<SessionCard> cards = deck.next(Math.max(1, Math.min(count, MAX_NEXT_CARDS)));
+        log.debug("Serving {} cards for session {}, {} remaining", cards.size(), id, deck.remaining());
+        return cards.stream().map(studySessionMapper::toCardResponse).toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public SessionItemAnalysisResponse analyzeSession(UUID id, UUID userId) {
         log.debug("Analyzing session with ID: {} for user ID: {}", id, userId);
 
-// final StudySession session = findSessionByIdAndValidateOwnership(id, userId);
-        final List<SessionItem> items = sessionItemRepository.findBySessionId(id);
+        final StudySession session = findSessionByIdAndValidateOwnership(id, userId);
 
-        if (items.isEmpty()) {
+        if (session.getTotalItems() == 0) {
             log.warn("No items found for session: {}", id);
             return SessionItemAnalysisResponse
                 .builder()
@@ -299,46 +419,45 @@ public class StudySessionServiceImpl implements StudySessionService {
                 .build();
         }
 
-        // Calculate statistics
-        final int totalItems = items.size();
-        final int correctItems = (int) items.stream().filter(item -> Boolean.TRUE.equals(item.getIsCorrect())).count();
+        // Per-vocabulary tallies with terms in a single projection query
+        List<Object[]> termStats = sessionVocabularyStatRepository.findTermStatsBySessionId(id);
+        double averageResponseTimeMs = session.getAverageResponseTimeMs();
 
-        final double accuracyRate = totalItems > 0 ? (double) correctItems / totalItems * 100 : 0.0;
-
-        final double averageResponseTimeMs = items
-            .stream()
-            .filter(item -> item.getResponseTimeMs() != null)
-            .mapToInt(SessionItem::getResponseTimeMs)
-            .average()
-            .orElse(0.0);
-
-        // Group items by vocabulary
-        final Map<UUID, List<SessionItem>> itemsByVocabulary = items
-            .stream()
-            .collect(Collectors.groupingBy(item -> item.getVocabulary().getId()));
-
-        // Calculate item-specific statistics
-        final List<String> difficultTerms = itemsByVocabulary
-            .entrySet()
-            .stream()
-            .filter(entry -> calculateAccuracy(entry.getValue()) < 50.0)
-            .map(entry -> entry.getValue().get(0).getVocabulary().getTerm())
-            .sorted()
-            .toList();
+        // Sessions with attempts recorded before tallies existed have no or only partial tallies
+        // and response time counters; their items hold every attempt, so aggregate those instead
+        final long talliedItems = termStats.stream().mapToLong(row -> ((Number) row[1]).longValue()).sum();
+        if (talliedItems < session.getTotalItems()) {
+            log
+                .debug(
+                    "Tallies of session {} cover {} of {} attempts, aggregating items",
+                    id,
+                    talliedItems,
+                    session.getTotalItems());
+            termStats = sessionItemRepository.aggregateTermStatsBySessionId(id);
+            final Double itemAverage = sessionItemRepository.getAverageResponseTimeBySessionId(id);
+            averageResponseTimeMs = itemAverage != null ? itemAverage : 0.0;
+        }
 
-        final List<String> masteredTerms = itemsByVocabulary
-            .entrySet()
-            .stream()
-            .filter(entry -> calculateAccuracy(entry.getValue()) == 100.0)
-            .map(entry -> entry.getValue().get(0).getVocabulary().getTerm())
-            .sorted()
-            .toList();
+        final List<String> difficultTerms = new ArrayList<>();
+        final List<String> masteredTerms = new ArrayList<>();
+        for (Object[] row : termStats) {
+            final String term = (String) row[0];
+            final double accuracy = calculateAccuracy(((Number) row[1]).intValue(), ((Number) row[2]).intValue());
+
+            if (accuracy < 50.0) {
+                difficultTerms.add(term);
+            } else if (accuracy == 100.0) {
+                masteredTerms.add(term);
+            }
+        }
+        Collections.sort(difficultTerms);
+        Collections.sort(masteredTerms);
 
         return SessionItemAnalysisResponse
             .builder()
-            .totalItems(totalItems)
-            .correctItems(correctItems)
-            .accuracyRate(accuracyRate)
+            .totalItems(session.getTotalItems())
+            .correctItems(session.getCorrectItems())
+            .accuracyRate(session.getAccuracyRate())
             .averageResponseTimeMs(averageResponseTimeMs)
             .difficultTerms(difficultTerms)
             .masteredTerms(masteredTerms)
@@ -381,13 +500,8 @@ public class StudySessionServiceImpl implements StudySessionService {
             throw KardioException.validationError(messageSource, "error.daterange.invalid");
         }
 
-        // Convert LocalDate to LocalDateTime for database query
-        final LocalDateTime startDateTime = startDate.atStartOfDay();
-        final LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
-
-        final Long totalSeconds = studySessionRepository.getTotalStudyTimeInSeconds(userId, startDateTime, endDateTime);
-
-        return totalSeconds != null ? totalSeconds : 0L;
+        // One rollup row per day and session type in the range
+        return userDailyActivityRepository.sumSecondsStudied(userId, startDate, endDate);
     }
 
     @Override
@@ -397,11 +511,13 @@ public class StudySessionServiceImpl implements StudySessionService {
 
         final StudySession session = findSessionByIdAndValidateOwnership(id, userId);
 
-        // Delete session items first
+        // Delete session items and analysis tallies first
         sessionItemRepository.deleteBySessionId(id);
+        sessionVocabularyStatRepository.deleteBySessionId(id);
 
         // Delete session
         studySessionRepository.delete(session);
+        eventPublisher.publishEvent(new SessionClosedEvent(id));
 
         log.info("Session deleted successfully: {}", id);
         return SuccessResponse.of(messageSource.getMessage("success.deleted", new Object[]{
@@ -426,17 +542,148 @@ public class StudySessionServiceImpl implements StudySessionService {
         // Check ownership
         if (!session.getUser().getId().equals(userId)) {
             log.error("User {} is not the owner of session {}", userId, id);
-            throw KardioException
-                .forbidden(
-                    messageSource,
-                    ErrorMessages.FORBIDDEN_OWNER,
-                    "access",
-                    messageSource.getMessage("entity.session", null, LocaleContextHolder.getLocale()));
+            throw sessionOwnerForbidden();
         }
 
         return session;
     }
 
+    /**
+     * Registers an open session. LEARN and FLASHCARD sessions load their cards
+     * with the user's progress in one query and keep the resulting order in
+     * memory; other sessions only need the module's vocabulary IDs.
+     *
+     * @param session The open session
+     * @return The registered entry
+     */
+    private ActiveSession registerActiveSession(StudySession session) {
+        final UUID moduleId = session.getModule().getId();
+        if (!SERVED_SESSION_TYPES.contains(session.getSessionType())) {
+            return activeSessionRegistry.register(session, vocabularyRepository.findIdsByModuleId(moduleId));
+        }
+
+        final List<SessionCard> cards = vocabularyRepository
+            .findSessionCards(moduleId, session.getUser().getId())
+            .stream()
+            .map(SessionCard::from)
+            .toList();
+        return activeSessionRegistry.register(session, new SessionCardDeck(cards));
+    }
+
+    /**
+     * Helper method to resolve an open session from the registry and validate
+     * ownership. Falls back to the database (and registers the session) when the
+     * registry has no entry, e.g. after a restart or idle expiry.
+     *
+     * @param id     Session ID
+     * @param userId User ID
+     * @return The active session entry
+     * @throws KardioException if session not found, ended or user is not the owner
+     */
+    private ActiveSession findActiveSessionAndValidateOwnership(UUID id, UUID userId) {
+        final ActiveSession activeSession = activeSessionRegistry.find(id).orElseGet(() -> {
+            final StudySession session = findSessionByIdAndValidateOwnership(id, userId);
+            if (session.getEndTime() != null) {
+                log.error("Cannot record attempt for ended session: {}", id);
+                throw KardioException.validationError(messageSource, "error.session.ended");
+            }
+            return registerActiveSession(session);
+        });
+
+        // Check ownership
+        if (!activeSession.isOwnedBy(userId)) {
+            log.error("User {} is not the owner of session {}", userId, id);
+            throw sessionOwnerForbidden();
+        }
+
+        // Check if session is active
+        if (activeSession.isEnded()) {
+            log.error("Cannot record attempt for ended session: {}", id);
+            throw KardioException.validationError(messageSource, "error.session.ended");
+        }
+
+        return activeSession;
+    }
+
+    /**
+     * Writes the tally of a synchronous attempt, rejecting it if the session was
+     * closed after it was registered here, e.g. on another node.
+     *
+     * @param activeSession The active session
+     * @param tally         Attempts to count
+     * @throws KardioException if the session has ended
+     */
+    private void writeTallyToOpenSession(ActiveSession activeSession, SessionAttemptTally tally) {
+        if (!sessionTallyWriter.writeToOpenSession(activeSession.getSessionId(), tally)) {
+            activeSessionRegistry.remove(activeSession.getSessionId());
+            log.error("Cannot record attempt for ended session: {}", activeSession.getSessionId());
+            throw KardioException.validationError(messageSource, "error.session.ended");
+        }
+    }
+
+    /**
+     * Validates that vocabularies belong to the session's module. IDs unknown to
+     * the registry are checked against the database once, so vocabularies added
+     * after the session started are accepted.
+     *
+     * @param activeSession The active session
+     * @param vocabularyIds Distinct vocabulary IDs
+     * @throws KardioException if any vocabulary is not part of the module
+     */
+    private void validateVocabulariesInModule(ActiveSession activeSession, List<UUID> vocabularyIds) {
+        final List<UUID> unknownIds = vocabularyIds
+            .stream()
+            .filter(id -> !activeSession.containsVocabulary(id))
+            .toList();
+        if (unknownIds.isEmpty()) {
+            return;
+        }
+
+        final List<UUID> foundIds = vocabularyRepository
+            .findIdsByModuleIdAndIdIn(activeSession.getModuleId(), unknownIds);
+        if (foundIds.size() != unknownIds.size()) {
+            log
+                .error(
+                    "Attempt for session {} contains vocabularies outside module {}",
+                    activeSession.getSessionId(),
+                    activeSession.getModuleId());
+            throw KardioException.validationError(messageSource, "error.vocabulary.notinmodule");
+        }
+
+        activeSession.addVocabularies(foundIds);
+    }
+
+    /**
+     * Builds the exception for a user accessing a session they do not own.
+     *
+     * @return Forbidden exception
+     */
+    private KardioException sessionOwnerForbidden() {
+        return KardioException
+            .forbidden(
+                messageSource,
+                ErrorMessages.FORBIDDEN_OWNER,
+                "access",
+                messageSource.getMessage("entity.session", null, LocaleContextHolder.getLocale()));
+    }
+
+    /**
+     * Checks if a module is accessible to a user, using the cached decision
+     * when there is one.
+     *
+     * @param moduleId Module ID
+     * @param userId   User ID
+     * @return true if the user can study the module
+     */
+    private boolean isModuleAccessible(UUID moduleId, UUID userId) {
+        return accessDecisionCache
+            .isAllowed(
+                userId,
+                AccessResourceType.MODULE,
+                moduleId,
+                () -> studyModuleRepository.isAccessibleToUser(moduleId, userId));
+    }
+
     /**
      * Updates a user's streak.
      *
@@ -456,35 +703,18 @@ public class StudySessionServiceImpl implements StudySessionService {
     }
 
     /**
-     * Updates a module's last studied time.
+     * Calculates accuracy rate from attempt counts.
      *
-     * @param module The module
-     */
-    private void updateModuleLastStudiedTime(StudyModule module) {
-        try {
-            module.setLastStudiedAt(LocalDateTime.now());
-            studyModuleRepository.save(module);
-            log.debug("Updated last studied time for module: {}", module.getId());
-        } catch (Exception e) {
-            // Non-critical operation, log error but don't interrupt main flow
-            log.error("Failed to update last studied time for module {}: {}", module.getId(), e.getMessage());
-        }
-    }
-
-    /**
-     * Calculates accuracy rate for a list of session items.
-     *
-     * @param items List of session items
+     * @param totalCount   Number of attempts
+     * @param correctCount Number of correct attempts
      * @return Accuracy rate (0-100)
      */
-    private double calculateAccuracy(List<SessionItem> items) {
-        if (items == null || items.isEmpty()) {
+    private double calculateAccuracy(int totalCount, int correctCount) {
+        if (totalCount == 0) {
             return 0.0;
         }
 
-        final int correctCount = (int) items.stream().filter(item -> Boolean.TRUE.equals(item.getIsCorrect())).count();
-
-        return (double) correctCount / items.size() * 100;
+        return (double) correctCount / totalCount * 100;
     }
 
-}
\ No newline at end of file
+}
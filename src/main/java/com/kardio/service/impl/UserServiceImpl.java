@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.kardio.dto.common.PageResponse;
+import com.kardio.dto.progress.UserStatsResponse;
 import com.kardio.dto.user.UserDetailedResponse;
 import com.kardio.dto.user.UserResponse;
 import com.kardio.dto.user.UserUpdateRequest;
@@ -16,6 +17,8 @@ import com.kardio.entity.User;
 import com.kardio.exception.KardioException;
 import com.kardio.mapper.UserMapper;
 import com.kardio.repository.UserRepository;
+import com.kardio.repository.UserStatsRepository;
+import com.kardio.repository.projection.UserStatsView;
 import com.kardio.service.UserService;
 import com.kardio.util.PageUtils;
 
@@ -35,6 +38,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final UserStatsRepository userStatsRepository;
 
     /**
      * Gets all users with pagination.
@@ -124,6 +128,42 @@ public class UserServiceImpl implements UserService {
         userRepository.save(user);
     }
 
+    /**
+     * Gets the learning statistics of a user from the materialized user_stats
+     * row. Users who never studied get empty statistics.
+     *
+     * @param id User ID
+     * @return User statistics
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public UserStatsResponse getUserStats(UUID id) {
+        log.debug("Getting statistics for user ID: {}", id);
+
+        // Users without a row yet, e.g. before the startup seed reached them, get the live aggregate
+        return toStatsResponse(
+            userStatsRepository.findStatsByUserId(id).orElseGet(() -> userStatsRepository.computeStatsByUserId(id)));
+    }
+
+    private UserStatsResponse toStatsResponse(UserStatsView stats) {
+        final int notStudied = stats.getNotStudiedCount();
+        final int learning = stats.getLearningCount();
+        final int mastered = stats.getMasteredCount();
+        final long attempts = stats.getTotalCorrect() + stats.getTotalIncorrect();
+
+        return UserStatsResponse
+            .builder()
+            .totalVocabularies(notStudied + learning + mastered)
+            .masteredCount(mastered)
+            .learningCount(learning)
+            .notStudiedCount(notStudied)
+            .overallAccuracy(attempts > 0 ? stats.getTotalCorrect() * 100.0 / attempts : 0.0)
+            .currentStreak(stats.getCurrentStreak() != null ? stats.getCurrentStreak() : 0)
+            .longestStreak(stats.getLongestStreak() != null ? stats.getLongestStreak() : 0)
+            .lastStudyDate(stats.getLastStudiedAt())
+            .build();
+    }
+
     /**
      * Finds a user by ID or throws an exception.
      *
@@ -1,19 +1,23 @@
 package com.kardio.service.impl;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.kardio.dto.common.PageResponse;
+import com.kardio.dto.common.ResourceVersion;
 import com.kardio.dto.common.SuccessResponse;
 import com.kardio.dto.vocabulary.VocabularyBulkImportRequest;
 import com.kardio.dto.vocabulary.VocabularyBulkOperationResponse;
@@ -32,7 +36,10 @@ import com.kardio.repository.StarredItemRepository;
 import com.kardio.repository.StudyModuleRepository;
 import com.kardio.repository.UserRepository;
 import com.kardio.repository.VocabularyRepository;
+import com.kardio.repository.projection.ResourceVersionView;
 import com.kardio.service.VocabularyService;
+import com.kardio.service.cache.ModuleChangedEvent;
+import com.kardio.service.cache.VocabularyDeletedEvent;
 import com.kardio.util.PageUtils;
 
 import lombok.RequiredArgsConstructor;
@@ -59,6 +66,7 @@ public class VocabularyServiceImpl implements VocabularyService {
     private final StarredItemRepository starredItemRepository;
     private final MessageSource messageSource;
     private final VocabularyMapper vocabularyMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -74,6 +82,8 @@ public class VocabularyServiceImpl implements VocabularyService {
         // Create vocabulary entity
         final Vocabulary vocabulary = vocabularyMapper.createFromRequest(request, module);
         final Vocabulary savedVocabulary = vocabularyRepository.save(vocabulary);
+        studyModuleRepository.adjustVocabularyCount(module.getId(), 1);
+        eventPublisher.publishEvent(ModuleChangedEvent.contentChanged(module.getId()));
 
         log.info("Vocabulary created successfully with ID: {}", savedVocabulary.getId());
         return vocabularyMapper.toDto(savedVocabulary);
@@ -127,8 +137,11 @@ public class VocabularyServiceImpl implements VocabularyService {
         log.info("Deleting vocabulary with ID: {}", id);
 
         final Vocabulary vocabulary = findVocabularyById(id);
-        vocabulary.softDelete();
-        vocabularyRepository.save(vocabulary);
+        if (vocabularyRepository.softDeleteById(id, LocalDateTime.now()) > 0) {
+            studyModuleRepository.adjustVocabularyCount(vocabulary.getModule().getId(), -1);
+            eventPublisher.publishEvent(ModuleChangedEvent.contentChanged(vocabulary.getModule().getId()));
+            eventPublisher.publishEvent(new VocabularyDeletedEvent(id, vocabulary.getModule().getId()));
+        }
 
         log.info("Vocabulary deleted successfully: {}", id);
         return SuccessResponse.of(messageSource.getMessage("success.deleted", new Object[]{
@@ -154,6 +167,19 @@ public class VocabularyServiceImpl implements VocabularyService {
         return PageUtils.createPageResponse(dtoPage, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getVocabulariesVersion(UUID moduleId) {
+        // Validate module exists, as the list itself does
+        if (!studyModuleRepository.existsById(moduleId)) {
+            log.error(LOG_MODULE_NOT_FOUND, moduleId);
+            throw KardioException.resourceNotFound(messageSource, KEY_ENTITY_MODULE, moduleId);
+        }
+
+        final ResourceVersionView version = vocabularyRepository.findVersionByModuleId(moduleId);
+        return ResourceVersion.of(version.getLastModified(), version.getItemCount());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PageResponse<VocabularyWithProgressResponse> getVocabulariesByModuleWithProgress(
@@ -256,6 +282,8 @@ public class VocabularyServiceImpl implements VocabularyService {
         // Batch save all successful vocabularies
         if (!vocabulariesToSave.isEmpty()) {
             vocabularyRepository.saveAll(vocabulariesToSave);
+            studyModuleRepository.adjustVocabularyCount(module.getId(), vocabulariesToSave.size());
+            eventPublisher.publishEvent(ModuleChangedEvent.contentChanged(module.getId()));
         }
 
         log.info("Bulk import completed. Success: {}, Failed: {}", successCount, failCount);
@@ -289,18 +317,38 @@ public class VocabularyServiceImpl implements VocabularyService {
 
     @Override
     @Transactional(readOnly = true)
-    public PageResponse<VocabularyResponse> searchVocabularies(String term, Pageable pageable) {
-        log.debug("Searching vocabularies with term: {}", term);
+    public PageResponse<VocabularyResponse> searchVocabularies(
+            String term,
+            UUID moduleId,
+            UUID ownerId,
+            UUID userId,
+            Pageable pageable) {
+        log
+            .debug(
+                "Searching vocabularies with term: {}, moduleId: {}, ownerId: {} for user ID: {}",
+                term,
+                moduleId,
+                ownerId,
+                userId);
 
         if (StringUtils.isEmpty(term) || term.length() < 2) {
             throw KardioException.validationError(messageSource, "error.validation.searchterm", 2);
         }
 
-        // Search vocabularies with pagination
-        final Page<Vocabulary> vocabularyPage = vocabularyRepository.findByTermContainingIgnoreCase(term, pageable);
+        // Results are ordered by similarity, so only the page position is used; every query only
+        // matches modules the user can access
+        final Pageable rankedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        final Page<Vocabulary> vocabularyPage;
+        if (moduleId != null) {
+            vocabularyPage = vocabularyRepository.searchByTermOrDefinitionInModule(term, moduleId, userId, rankedPageable);
+        } else if (ownerId != null) {
+            vocabularyPage = vocabularyRepository.searchByTermOrDefinitionForOwner(term, ownerId, userId, rankedPageable);
+        } else {
+            vocabularyPage = vocabularyRepository.searchByTermOrDefinition(term, userId, rankedPageable);
+        }
         final Page<VocabularyResponse> dtoPage = vocabularyPage.map(vocabularyMapper::toDto);
 
-        return createPageResponse(dtoPage, pageable);
+        return createPageResponse(dtoPage, rankedPageable);
     }
 
     /**
@@ -0,0 +1,201 @@
+package com.kardio.service.maintenance;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kardio.entity.enums.SessionType;
+import com.kardio.service.session.DailyActivityWriter;
+import com.kardio.service.session.SessionClosedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Closes study sessions that the client never ended.
+ * <p>
+ * A session is abandoned once its last item, or its start if it has none, is
+ * older than the idle threshold. Open sessions are walked in (start_time, id)
+ * order over a partial index, one bounded batch per transaction, and each
+ * abandoned session ends at its last activity, so no idle time is counted as
+ * study time.
+ */
+@Component
+@Slf4j
+public class AbandonedSessionSweeper implements SmartInitializingSingleton {
+
+    private static final String OPEN_INDEX = "idx_study_sessions_open";
+    private static final String OPEN_INDEX_DEFINITION = "ON study_sessions (start_time, id) WHERE end_time IS NULL";
+
+    private static final String FIND_OPEN = "SELECT s.id, s.start_time FROM study_sessions s "
+            + "WHERE s.end_time IS NULL AND s.start_time < :cutoff "
+            + "AND (s.start_time, s.id) > (:afterStartTime, :afterId) "
+            + "ORDER BY s.start_time, s.id LIMIT :batchSize";
+
+    private static final String LAST_ACTIVITY = "GREATEST(s.start_time, (SELECT MAX(i.created_at) "
+            + "FROM session_items i WHERE i.session_id = s.id))";
+
+    // Bumps the version so a concurrent endSession retries and sees the session as ended
+    private static final String CLOSE_IDLE = "UPDATE study_sessions s SET end_time = " + LAST_ACTIVITY + ", "
+            + "version = s.version + 1 "
+            + "WHERE s.id IN (:ids) AND s.end_time IS NULL AND " + LAST_ACTIVITY + " < :cutoff "
+            + "RETURNING s.id, s.user_id, s.session_type, s.start_time, s.end_time";
+
+    private static final LocalDateTime FIRST_START_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentIndexBuilder concurrentIndexBuilder;
+    private final DailyActivityWriter dailyActivityWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final long idleMinutes;
+    private final int batchSize;
+
+    public AbandonedSessionSweeper(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ConcurrentIndexBuilder concurrentIndexBuilder,
+            DailyActivityWriter dailyActivityWriter,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${kardio.sessions.sweeper.enabled:true}") boolean enabled,
+            @Value("${kardio.sessions.sweeper.idle-minutes:120}") long idleMinutes,
+            @Value("${kardio.sessions.sweeper.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.concurrentIndexBuilder = concurrentIndexBuilder;
+        this.dailyActivityWriter = dailyActivityWriter;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.idleMinutes = idleMinutes;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Creates the partial index over open sessions, which the entity mapping
+     * cannot express. Built concurrently before the web server starts, so
+     * session writes are not blocked.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (enabled) {
+            concurrentIndexBuilder.ensure(OPEN_INDEX, OPEN_INDEX_DEFINITION);
+        }
+    }
+
+    /**
+     * Scheduled sweep of abandoned sessions.
+     */
+    @Scheduled(cron = "${kardio.sessions.sweeper.cron:0 */10 * * * *}")
+    public void sweepScheduled() {
+        if (enabled && batchSize > 0) {
+            sweep();
+        }
+    }
+
+    /**
+     * Closes every session idle for longer than the threshold.
+     *
+     * @return Number of closed sessions
+     */
+    public int sweep() {
+        final LocalDateTime cutoff = LocalDateTime.now().minusMinutes(idleMinutes);
+
+        LocalDateTime afterStartTime = FIRST_START_TIME;
+        UUID afterId = FIRST_ID;
+        int closed = 0;
+        while (true) {
+            final List<UUID> ids = new ArrayList<>(batchSize);
+            final List<LocalDateTime> startTimes = new ArrayList<>(batchSize);
+            jdbcTemplate
+                .query(
+                    FIND_OPEN,
+                    new MapSqlParameterSource()
+                        .addValue("cutoff", cutoff)
+                        .addValue("afterStartTime", afterStartTime)
+                        .addValue("afterId", afterId)
+                        .addValue("batchSize", batchSize),
+                    rs -> {
+                        ids.add(rs.getObject("id", UUID.class));
+                        startTimes.add(rs.getTimestamp("start_time").toLocalDateTime());
+                    });
+
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            closed += closeBatch(ids, cutoff);
+            if (ids.size() < batchSize) {
+                break;
+            }
+            afterStartTime = startTimes.get(startTimes.size() - 1);
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        if (closed > 0) {
+            log.info("Closed {} abandoned study sessions idle since before {}", closed, cutoff);
+        }
+        return closed;
+    }
+
+    /**
+     * Closes the idle sessions of one batch and adds their study time to the
+     * daily rollup in the same transaction.
+     */
+    private int closeBatch(List<UUID> ids, LocalDateTime cutoff) {
+        final List<UUID> closedIds = transactionTemplate.execute(status -> {
+            final List<ClosedSession> sessions = jdbcTemplate
+                .query(
+                    CLOSE_IDLE,
+                    new MapSqlParameterSource().addValue("ids", ids).addValue("cutoff", cutoff),
+                    (rs, rowNum) -> new ClosedSession(
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("user_id", UUID.class),
+                        SessionType.valueOf(rs.getString("session_type")),
+                        rs.getTimestamp("start_time").toLocalDateTime(),
+                        rs.getTimestamp("end_time").toLocalDateTime()));
+
+            sessions.forEach(session -> {
+                dailyActivityWriter
+                    .recordSessionEnded(session.userId, session.sessionType, session.startTime, session.endTime);
+                // Registries drop the session only after commit, so a rolled back batch leaves it usable
+                eventPublisher.publishEvent(new SessionClosedEvent(session.id));
+            });
+            return sessions.stream().map(session -> session.id).toList();
+        });
+
+        return closedIds != null ? closedIds.size() : 0;
+    }
+
+    private static final class ClosedSession {
+
+        private final UUID id;
+        private final UUID userId;
+        private final SessionType sessionType;
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+
+        private ClosedSession(
+                UUID id,
+                UUID userId,
+                SessionType sessionType,
+                LocalDateTime startTime,
+                LocalDateTime endTime) {
+            this.id = id;
+            this.userId = userId;
+            this.sessionType = sessionType;
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
+    }
+}
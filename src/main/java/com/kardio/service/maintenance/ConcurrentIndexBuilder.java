@@ -0,0 +1,108 @@
+package com.kardio.service.maintenance;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds indexes that the entity mappings cannot express without blocking
+ * writes to their table.
+ * <p>
+ * Indexes are created with CREATE INDEX CONCURRENTLY, which cannot run in a
+ * transaction, so each build runs on one autocommit connection. Nodes starting
+ * together take turns through a session-level advisory lock. The lock is polled
+ * rather than waited for, because a concurrent build waits for every statement
+ * that holds a snapshot, including one blocked on the lock. A build that failed
+ * part-way leaves an invalid index behind, which is dropped and built again.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConcurrentIndexBuilder {
+
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_lock(hashtext('concurrent_index_build'))";
+    private static final String UNLOCK = "SELECT pg_advisory_unlock(hashtext('concurrent_index_build'))";
+    private static final String IS_VALID = "SELECT i.indisvalid FROM pg_index i WHERE i.indexrelid = to_regclass(?)";
+    private static final long LOCK_POLL_MILLIS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates an index unless a valid one with the name exists. Must be called
+     * outside a transaction.
+     *
+     * @param name       Index name
+     * @param definition Rest of the CREATE INDEX statement after the name, e.g.
+     *                   "ON table USING GIN (column)"
+     */
+    public void ensure(String name, String definition) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            lock(connection);
+            try {
+                build(connection, name, definition);
+            } finally {
+                execute(connection, UNLOCK);
+            }
+            return null;
+        });
+    }
+
+    private void build(Connection connection, String name, String definition) throws SQLException {
+        final Boolean valid = isValid(connection, name);
+        if (Boolean.TRUE.equals(valid)) {
+            return;
+        }
+        if (valid != null) {
+            log.warn("Dropping invalid index {} left by an interrupted build", name);
+            execute(connection, "DROP INDEX CONCURRENTLY IF EXISTS " + name);
+        }
+
+        log.info("Building index {} concurrently", name);
+        execute(connection, "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + name + " " + definition);
+        log.info("Built index {}", name);
+    }
+
+    /**
+     * Whether the index is valid, or null if it does not exist.
+     */
+    private Boolean isValid(Connection connection, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(IS_VALID)) {
+            statement.setString(1, name);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getBoolean(1) : null;
+            }
+        }
+    }
+
+    private void lock(Connection connection) throws SQLException {
+        while (!tryLock(connection)) {
+            try {
+                Thread.sleep(LOCK_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for another node's index build", e);
+            }
+        }
+    }
+
+    private boolean tryLock(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(TRY_LOCK)) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
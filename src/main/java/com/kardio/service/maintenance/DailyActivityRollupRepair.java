@@ -0,0 +1,168 @@
+package com.kardio.service.maintenance;
+
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rebuilds the user_daily_activity rollup from study_sessions and session_items.
+ * <p>
+ * The rollup is maintained incrementally; this job recomputes a date range from
+ * the raw rows to correct drift, e.g. after a failed write-behind flush. A daily
+ * run repairs the most recent complete days; any range can be rebuilt on demand.
+ * <p>
+ * An empty rollup is backfilled from the first session up to today on startup,
+ * before the web server accepts requests, so totals include the history from
+ * before the rollup existed. Rebuilds hold an advisory lock, so nodes starting
+ * or repairing together take turns instead of inserting the same rows.
+ */
+@Component
+@Slf4j
+public class DailyActivityRollupRepair implements SmartInitializingSingleton {
+
+    private static final String LOCK = "SELECT pg_advisory_xact_lock(hashtext('user_daily_activity_rebuild'))";
+
+    private static final String NEEDS_BACKFILL = "SELECT NOT EXISTS (SELECT 1 FROM user_daily_activity) "
+            + "AND EXISTS (SELECT 1 FROM study_sessions)";
+
+    private static final String FIRST_SESSION_DAY = "SELECT CAST(MIN(start_time) AS DATE) FROM study_sessions";
+
+    private static final String DELETE_RANGE = "DELETE FROM user_daily_activity "
+            + "WHERE activity_date >= :fromDay AND activity_date < :toDay";
+
+    // Sessions by start day, attempts by item day and study time split across the days each ended session spans
+    private static final String REBUILD_RANGE = "INSERT INTO user_daily_activity (id, user_id, activity_date, "
+            + "session_type, seconds_studied, attempts, correct_answers, sessions) "
+            + "SELECT gen_random_uuid(), user_id, activity_date, session_type, SUM(seconds), SUM(attempts), "
+            + "SUM(correct), SUM(sessions) FROM ("
+            + "SELECT s.user_id, CAST(s.start_time AS DATE) AS activity_date, s.session_type, "
+            + "CAST(0 AS BIGINT) AS seconds, 0 AS attempts, 0 AS correct, 1 AS sessions "
+            + "FROM study_sessions s WHERE s.start_time >= :fromTime AND s.start_time < :toTime "
+            + "UNION ALL "
+            + "SELECT s.user_id, CAST(i.created_at AS DATE), s.session_type, 0, COUNT(*), "
+            + "COUNT(*) FILTER (WHERE i.is_correct), 0 "
+            + "FROM session_items i JOIN study_sessions s ON s.id = i.session_id "
+            + "WHERE i.created_at >= :fromTime AND i.created_at < :toTime "
+            + "GROUP BY s.user_id, CAST(i.created_at AS DATE), s.session_type "
+            + "UNION ALL "
+            + "SELECT s.user_id, CAST(d.day AS DATE), s.session_type, "
+            + "CAST(EXTRACT(EPOCH FROM LEAST(s.end_time, d.day + INTERVAL '1 day', :toTime) "
+            + "- GREATEST(s.start_time, d.day, :fromTime)) AS BIGINT), 0, 0, 0 "
+            + "FROM study_sessions s CROSS JOIN LATERAL generate_series(date_trunc('day', "
+            + "GREATEST(s.start_time, :fromTime)), LEAST(s.end_time, :toTime), INTERVAL '1 day') AS d(day) "
+            + "WHERE s.end_time IS NOT NULL AND s.end_time > :fromTime AND s.start_time < :toTime"
+            + ") x WHERE activity_date >= :fromDay AND activity_date < :toDay "
+            + "GROUP BY user_id, activity_date, session_type "
+            + "HAVING SUM(seconds) > 0 OR SUM(attempts) > 0 OR SUM(sessions) > 0";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int repairDays;
+
+    public DailyActivityRollupRepair(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${kardio.activity.rollup.repair.enabled:true}") boolean enabled,
+            @Value("${kardio.activity.rollup.repair.days:2}") int repairDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.repairDays = repairDays;
+    }
+
+    /**
+     * Backfills the rollup when it is empty while sessions exist, e.g. on the
+     * first start after it was added.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled || !needsBackfill()) {
+            return;
+        }
+
+        final Integer written = transactionTemplate.execute(status -> {
+            lock();
+            if (!needsBackfill()) {
+                return 0;
+            }
+
+            final LocalDate first = jdbcTemplate
+                .getJdbcTemplate()
+                .queryForObject(FIRST_SESSION_DAY, LocalDate.class);
+            return first != null ? replace(first, LocalDate.now()) : 0;
+        });
+
+        log.info("Backfilled daily activity rollup from study sessions: {} rows", written);
+    }
+
+    /**
+     * Rebuilds the most recent complete days. Today is left to the incremental
+     * writers, which are still adding to it.
+     */
+    @Scheduled(cron = "${kardio.activity.rollup.repair.cron:0 45 3 * * *}")
+    public void repairRecentDays() {
+        if (!enabled || repairDays <= 0) {
+            return;
+        }
+
+        final LocalDate today = LocalDate.now();
+        rebuild(today.minusDays(repairDays), today.minusDays(1));
+    }
+
+    /**
+     * Replaces the rollup rows of a date range with values recomputed from the
+     * raw sessions and items.
+     *
+     * @param from First day to rebuild (inclusive)
+     * @param to   Last day to rebuild (inclusive)
+     * @return Number of rollup rows written
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Invalid date range: " + from + " is after " + to);
+        }
+
+        final Integer written = transactionTemplate.execute(status -> {
+            lock();
+            return replace(from, to);
+        });
+
+        log.info("Rebuilt daily activity rollup from {} to {}: {} rows", from, to, written);
+        return written != null ? written : 0;
+    }
+
+    /**
+     * Deletes and recomputes a date range; runs in the caller's transaction,
+     * under the lock.
+     */
+    private int replace(LocalDate from, LocalDate to) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("fromDay", from)
+            .addValue("toDay", to.plusDays(1))
+            .addValue("fromTime", from.atStartOfDay())
+            .addValue("toTime", to.plusDays(1).atStartOfDay());
+
+        final int deleted = jdbcTemplate.update(DELETE_RANGE, params);
+        final int inserted = jdbcTemplate.update(REBUILD_RANGE, params);
+        log.debug("Replaced {} daily activity rows with {} rebuilt rows", deleted, inserted);
+        return inserted;
+    }
+
+    private boolean needsBackfill() {
+        return Boolean.TRUE.equals(jdbcTemplate.getJdbcTemplate().queryForObject(NEEDS_BACKFILL, Boolean.class));
+    }
+
+    private void lock() {
+        jdbcTemplate.getJdbcTemplate().query(LOCK, rs -> {
+        });
+    }
+}
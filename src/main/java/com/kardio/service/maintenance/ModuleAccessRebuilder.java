@@ -0,0 +1,117 @@
+package com.kardio.service.maintenance;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kardio.service.access.AccessDecisionCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rebuilds module_access from study_modules and shared_study_modules.
+ * <p>
+ * The table is maintained by ModuleAccessWriter as modules and shares change.
+ * On startup it is backfilled when empty, or rebuilt when
+ * kardio.module-access.rebuild-on-startup is set. This runs before the web
+ * server starts, since access checks read only this table. Admins can run
+ * {@link #rebuild()} on demand through the maintenance endpoint to repair drift.
+ * Rebuilds hold an advisory lock, so nodes starting together take turns and
+ * only the first backfills an empty table; inserts tolerate rows that
+ * ModuleAccessWriter commits meanwhile.
+ */
+@Component
+@Slf4j
+public class ModuleAccessRebuilder implements SmartInitializingSingleton {
+
+    private static final String LOCK = "SELECT pg_advisory_xact_lock(hashtext('module_access_rebuild'))";
+
+    private static final String DELETE_ALL = "DELETE FROM module_access";
+
+    private static final String INSERT_OWNERS = "INSERT INTO module_access (id, user_id, module_id, access_kind) "
+            + "SELECT gen_random_uuid(), m.creator_id, m.id, 'OWNER' FROM study_modules m WHERE m.deleted_at IS NULL "
+            + "ON CONFLICT (user_id, module_id) DO UPDATE SET access_kind = 'OWNER'";
+
+    private static final String INSERT_SHARES = "INSERT INTO module_access (id, user_id, module_id, access_kind) "
+            + "SELECT gen_random_uuid(), s.user_id, s.study_module_id, 'SHARED' FROM shared_study_modules s "
+            + "JOIN study_modules m ON m.id = s.study_module_id "
+            + "WHERE m.deleted_at IS NULL AND m.visibility = 'SHARED' "
+            + "ON CONFLICT (user_id, module_id) DO NOTHING";
+
+    private static final String NEEDS_BACKFILL = "SELECT NOT EXISTS (SELECT 1 FROM module_access) "
+            + "AND EXISTS (SELECT 1 FROM study_modules WHERE deleted_at IS NULL)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AccessDecisionCache accessDecisionCache;
+    private final boolean rebuildOnStartup;
+
+    public ModuleAccessRebuilder(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            AccessDecisionCache accessDecisionCache,
+            @Value("${kardio.module-access.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.accessDecisionCache = accessDecisionCache;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    /**
+     * Backfills an empty table, or rebuilds it when configured to.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (rebuildOnStartup) {
+            rebuild();
+        } else if (needsBackfill()) {
+            // Another node may have filled the table while this one waited for the lock
+            final Integer written = transactionTemplate.execute(status -> {
+                lock();
+                return needsBackfill() ? replaceAll() : 0;
+            });
+            log.info("Backfilled module access: {} rows", written);
+        }
+    }
+
+    /**
+     * Replaces every access row with rows recomputed from modules and shares.
+     * Drops this node's cached access decisions afterwards; other nodes pick up
+     * the repaired rows as their decisions expire.
+     *
+     * @return Number of access rows written
+     */
+    public int rebuild() {
+        final Integer written = transactionTemplate.execute(status -> {
+            lock();
+            return replaceAll();
+        });
+        accessDecisionCache.invalidateAll();
+
+        log.info("Rebuilt module access: {} rows", written);
+        return written != null ? written : 0;
+    }
+
+    /**
+     * Deletes and recomputes every row; runs in the caller's transaction, under
+     * the lock.
+     */
+    private int replaceAll() {
+        final int deleted = jdbcTemplate.update(DELETE_ALL);
+        final int owners = jdbcTemplate.update(INSERT_OWNERS);
+        final int shares = jdbcTemplate.update(INSERT_SHARES);
+        log.debug("Replaced {} module access rows with {} owner and {} share rows", deleted, owners, shares);
+        return owners + shares;
+    }
+
+    private boolean needsBackfill() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(NEEDS_BACKFILL, Boolean.class));
+    }
+
+    private void lock() {
+        jdbcTemplate.query(LOCK, rs -> {
+        });
+    }
+}
@@ -0,0 +1,96 @@
+package com.kardio.service.maintenance;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Checks the search column and creates the search indexes that the entity
+ * mappings cannot express.
+ * <p>
+ * study_modules needs a stored tsvector column generated from name (weight A)
+ * and description (weight B), with a GIN index over all modules and a partial
+ * one over the public catalog. The text search configuration must match the
+ * one used by the queries in StudyModuleRepository. Adding the column rewrites
+ * the table, so on a table with rows it is a migration step
+ * (db/study_modules_search_vector.sql) and startup fails until it has run; an
+ * empty table gets the column on startup.
+ * <p>
+ * vocabularies gets pg_trgm GIN indexes on term and definition, which serve the
+ * similarity and substring searches in VocabularyRepository.
+ * <p>
+ * Everything runs before the web server starts, and indexes are built
+ * concurrently, so writes to either table are not blocked.
+ */
+@Component
+@Slf4j
+public class SearchIndexManager implements SmartInitializingSingleton {
+
+    private static final String HAS_MODULE_SEARCH_VECTOR = "SELECT EXISTS (SELECT 1 FROM information_schema.columns "
+            + "WHERE table_schema = current_schema() AND table_name = 'study_modules' "
+            + "AND column_name = 'search_vector')";
+
+    private static final String HAS_MODULES = "SELECT EXISTS (SELECT 1 FROM study_modules)";
+
+    private static final String MODULE_SEARCH_VECTOR = "ALTER TABLE study_modules "
+            + "ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS ("
+            + "setweight(to_tsvector('english', COALESCE(name, '')), 'A') || "
+            + "setweight(to_tsvector('english', COALESCE(description, '')), 'B')) STORED";
+
+    private static final String TRIGRAM_EXTENSION = "CREATE EXTENSION IF NOT EXISTS pg_trgm";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentIndexBuilder concurrentIndexBuilder;
+    private final boolean enabled;
+
+    public SearchIndexManager(
+            JdbcTemplate jdbcTemplate,
+            ConcurrentIndexBuilder concurrentIndexBuilder,
+            @Value("${kardio.search.indexes.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.concurrentIndexBuilder = concurrentIndexBuilder;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Makes sure the search column exists and builds missing indexes. A no-op
+     * once the schema is in place.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+
+        ensureModuleSearchVector();
+        concurrentIndexBuilder.ensure("idx_study_modules_search", "ON study_modules USING GIN (search_vector)");
+        concurrentIndexBuilder
+            .ensure(
+                "idx_study_modules_public_search",
+                "ON study_modules USING GIN (search_vector) WHERE visibility = 'PUBLIC' AND deleted_at IS NULL");
+
+        jdbcTemplate.execute(TRIGRAM_EXTENSION);
+        concurrentIndexBuilder.ensure("idx_vocabularies_term_trgm", "ON vocabularies USING GIN (term gin_trgm_ops)");
+        concurrentIndexBuilder
+            .ensure("idx_vocabularies_definition_trgm", "ON vocabularies USING GIN (definition gin_trgm_ops)");
+        log.info("Search columns and indexes are in place");
+    }
+
+    private void ensureModuleSearchVector() {
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_MODULE_SEARCH_VECTOR, Boolean.class))) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_MODULES, Boolean.class))) {
+            throw new IllegalStateException("study_modules.search_vector is missing. Adding it rewrites the table, "
+                    + "so run db/study_modules_search_vector.sql in a maintenance window before starting");
+        }
+
+        // Nothing to rewrite yet
+        jdbcTemplate.execute(MODULE_SEARCH_VECTOR);
+        log.info("Added search_vector to the empty study_modules table");
+    }
+}
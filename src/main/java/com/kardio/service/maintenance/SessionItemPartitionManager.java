@@ -0,0 +1,279 @@
+package com.kardio.service.maintenance;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Manages monthly range partitions of the append-only session_items table.
+ * <p>
+ * On startup, after Hibernate has updated the schema and before the web server
+ * starts, a plain session_items table (as created by Hibernate) is converted
+ * into a table partitioned by created_at. Conversion and maintenance hold a
+ * transaction-scoped advisory lock, so nodes starting together take turns and
+ * only the first one converts. A daily job then keeps partitions
+ * created ahead of time and drops partitions older than the retention period,
+ * which is a metadata operation instead of a large DELETE.
+ * <p>
+ * A DEFAULT partition catches rows for months without a partition, so inserts
+ * keep working if the job falls behind. The job logs an error when it finds
+ * such rows and moves them into the month's partition when it creates it.
+ * <p>
+ * The conversion renames the existing table, which breaks nodes still running
+ * a version without partitioning: deploy the first version with partitioning
+ * with a full stop, not a rolling deploy.
+ */
+@Component
+@Slf4j
+public class SessionItemPartitionManager implements SmartInitializingSingleton {
+
+    private static final String TABLE = "session_items";
+    private static final String LEGACY_TABLE = "session_items_legacy";
+    private static final String PARTITION_PREFIX = TABLE + "_p";
+    private static final String DEFAULT_PARTITION = TABLE + "_default";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String LOCK = "SELECT pg_advisory_xact_lock(hashtext('session_items_partitioning'))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public SessionItemPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${kardio.session-items.partitioning.enabled:true}") boolean enabled,
+            @Value("${kardio.session-items.partitioning.months-ahead:3}") int monthsAhead,
+            @Value("${kardio.session-items.partitioning.retention-months:0}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * Converts session_items to a partitioned table if needed and makes sure the
+     * upcoming partitions exist. Runs once every singleton is created, so the
+     * schema update has already happened and the web server has not started.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            lock();
+            convertToPartitionedTable();
+        });
+        maintainPartitions();
+    }
+
+    /**
+     * Creates upcoming partitions and drops expired ones.
+     */
+    @Scheduled(cron = "${kardio.session-items.partitioning.cron:0 15 3 * * *}")
+    public void maintainPartitions() {
+        if (!enabled) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            lock();
+            if (!isPartitioned()) {
+                return;
+            }
+
+            ensureDefaultPartition();
+            final YearMonth current = YearMonth.now();
+            createPartitions(current, current.plusMonths(monthsAhead));
+
+            if (retentionMonths > 0) {
+                dropPartitionsBefore(current.minusMonths(retentionMonths));
+            }
+        });
+    }
+
+    /**
+     * Waits for other nodes converting or maintaining partitions; released at
+     * the end of the transaction.
+     */
+    private void lock() {
+        jdbcTemplate.query(LOCK, rs -> {
+        });
+    }
+
+    /**
+     * Replaces a plain session_items table with a partitioned one and moves its
+     * rows over. Columns are ordered widest-first to avoid alignment padding.
+     * Checks the table again under the lock, so a node that waited for another
+     * one's conversion finds it done.
+     */
+    private void convertToPartitionedTable() {
+        final String relkind = findRelationKind();
+        if ("p".equals(relkind)) {
+            return;
+        }
+
+        log.info("Converting {} to a partitioned table", TABLE);
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS session_items_id_seq INCREMENT BY 50");
+
+        final boolean hasLegacyTable = relkind != null;
+        if (hasLegacyTable) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO " + LEGACY_TABLE);
+        }
+
+        jdbcTemplate
+            .execute(
+                "CREATE TABLE " + TABLE + " ("
+                        + "id BIGINT NOT NULL, "
+                        + "created_at TIMESTAMP(6) NOT NULL, "
+                        + "session_id UUID NOT NULL REFERENCES study_sessions (id), "
+                        + "vocabulary_id UUID NOT NULL REFERENCES vocabularies (id), "
+                        + "response_time_ms INTEGER CHECK (response_time_ms >= 0), "
+                        + "is_correct BOOLEAN, "
+                        + "CONSTRAINT pk_session_items PRIMARY KEY (id, created_at)"
+                        + ") PARTITION BY RANGE (created_at)");
+
+        final YearMonth current = YearMonth.now();
+        if (hasLegacyTable) {
+            final LocalDateTime oldest = jdbcTemplate
+                .queryForObject("SELECT MIN(created_at) FROM " + LEGACY_TABLE, LocalDateTime.class);
+            createPartitions(oldest != null ? YearMonth.from(oldest) : current, current);
+
+            final int moved = jdbcTemplate
+                .update(
+                    "INSERT INTO " + TABLE + " (id, created_at, session_id, vocabulary_id, response_time_ms, is_correct) "
+                            + "SELECT nextval('session_items_id_seq'), COALESCE(created_at, LOCALTIMESTAMP), "
+                            + "session_id, vocabulary_id, response_time_ms, is_correct FROM " + LEGACY_TABLE);
+            jdbcTemplate.execute("DROP TABLE " + LEGACY_TABLE);
+            log.info("Moved {} rows into partitioned {}", moved, TABLE);
+        } else {
+            createPartitions(current, current);
+        }
+        ensureDefaultPartition();
+
+        // Index names match the entity mapping so schema updates recognise them
+        jdbcTemplate.execute("CREATE INDEX idx_session_items_session_id ON " + TABLE + " (session_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_session_items_vocabulary_id ON " + TABLE + " (vocabulary_id)");
+    }
+
+    private boolean isPartitioned() {
+        return "p".equals(findRelationKind());
+    }
+
+    /**
+     * Looks up the relation kind of session_items: 'r' for a plain table, 'p' for
+     * a partitioned one and null if the table does not exist yet.
+     */
+    private String findRelationKind() {
+        return jdbcTemplate
+            .queryForObject(
+                "SELECT (SELECT CAST(c.relkind AS text) FROM pg_class c WHERE c.oid = to_regclass(?))",
+                String.class,
+                TABLE);
+    }
+
+    private void ensureDefaultPartition() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + DEFAULT_PARTITION + " PARTITION OF " + TABLE + " DEFAULT");
+
+        final Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + DEFAULT_PARTITION, Long.class);
+        if (rows != null && rows > 0) {
+            log
+                .error(
+                    "{} holds {} rows outside the monthly partitions; partition maintenance has fallen behind",
+                    DEFAULT_PARTITION,
+                    rows);
+        }
+    }
+
+    private void createPartitions(YearMonth from, YearMonth to) {
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            final String partition = PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+            final String range = "FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1)
+                    + "')";
+            if (relationExists(partition)) {
+                continue;
+            }
+
+            if (!hasDefaultRows(month)) {
+                jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF " + TABLE + " " + range);
+                continue;
+            }
+
+            // Adding the partition would fail while the default one holds rows of its range
+            jdbcTemplate
+                .execute("CREATE TABLE " + partition + " (LIKE " + TABLE + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+            final int moved = jdbcTemplate
+                .update(
+                    "WITH moved AS (DELETE FROM " + DEFAULT_PARTITION + " WHERE created_at >= ? AND created_at < ? "
+                            + "RETURNING *) INSERT INTO " + partition + " SELECT * FROM moved",
+                    month.atDay(1).atStartOfDay(),
+                    month.plusMonths(1).atDay(1).atStartOfDay());
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ATTACH PARTITION " + partition + " " + range);
+            log.warn("Moved {} rows from {} into new partition {}", moved, DEFAULT_PARTITION, partition);
+        }
+    }
+
+    private boolean hasDefaultRows(YearMonth month) {
+        if (!relationExists(DEFAULT_PARTITION)) {
+            return false;
+        }
+        return Boolean.TRUE
+            .equals(
+                jdbcTemplate
+                    .queryForObject(
+                        "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE created_at >= ? AND created_at < ?)",
+                        Boolean.class,
+                        month.atDay(1).atStartOfDay(),
+                        month.plusMonths(1).atDay(1).atStartOfDay()));
+    }
+
+    private boolean relationExists(String name) {
+        return Boolean.TRUE
+            .equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name));
+    }
+
+    private void dropPartitionsBefore(YearMonth cutoff) {
+        final List<String> partitions = jdbcTemplate
+            .queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = to_regclass(?)",
+                String.class,
+                TABLE);
+
+        for (String partition : partitions) {
+            final YearMonth month = parsePartitionMonth(partition);
+            if (month != null && month.isBefore(cutoff)) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("Dropped expired partition {}", partition);
+            }
+        }
+    }
+
+    private YearMonth parsePartitionMonth(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+
+        try {
+            return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            log.warn("Ignoring partition with unexpected name: {}", partition);
+            return null;
+        }
+    }
+}
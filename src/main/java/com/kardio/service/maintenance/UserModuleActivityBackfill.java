@@ -0,0 +1,65 @@
+package com.kardio.service.maintenance;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fills user_module_activity from study_sessions.
+ * <p>
+ * The table is maintained as sessions start, so it only needs history once:
+ * when it is still empty while sessions exist, e.g. on the first start after
+ * it was added. The check runs before the web server starts, so no session
+ * started on this node can make the table look filled. Nodes starting together
+ * serialize on an advisory lock and the later ones find the table filled.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserModuleActivityBackfill implements SmartInitializingSingleton {
+
+    private static final String LOCK = "SELECT pg_advisory_xact_lock(hashtext('user_module_activity_backfill'))";
+
+    private static final String NEEDS_BACKFILL = "SELECT NOT EXISTS (SELECT 1 FROM user_module_activity) "
+            + "AND EXISTS (SELECT 1 FROM study_sessions)";
+
+    // Sessions started meanwhile have already upserted their row; keep the later time and larger count
+    private static final String BACKFILL = "INSERT INTO user_module_activity AS a "
+            + "(id, user_id, module_id, last_studied_at, session_count) "
+            + "SELECT gen_random_uuid(), s.user_id, s.module_id, MAX(s.start_time), COUNT(*) "
+            + "FROM study_sessions s GROUP BY s.user_id, s.module_id "
+            + "ON CONFLICT (user_id, module_id) DO UPDATE SET "
+            + "last_studied_at = GREATEST(a.last_studied_at, EXCLUDED.last_studied_at), "
+            + "session_count = GREATEST(a.session_count, EXCLUDED.session_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Backfills the table when it is empty.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!needsBackfill()) {
+            return;
+        }
+
+        final Integer written = transactionTemplate.execute(status -> {
+            jdbcTemplate.query(LOCK, rs -> {
+            });
+            return needsBackfill() ? jdbcTemplate.update(BACKFILL) : 0;
+        });
+
+        if (written != null && written > 0) {
+            log.info("Backfilled user module activity from study sessions: {} rows", written);
+        }
+    }
+
+    private boolean needsBackfill() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(NEEDS_BACKFILL, Boolean.class));
+    }
+}
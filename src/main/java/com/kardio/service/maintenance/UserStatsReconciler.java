@@ -0,0 +1,116 @@
+package com.kardio.service.maintenance;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recomputes user_stats counters from learning_progress.
+ * <p>
+ * The counters are maintained by deltas in the attempt path; this job corrects
+ * drift, e.g. from writes that bypassed the service. Only rows that differ are
+ * written, so a run over consistent data leaves the table untouched. A delta
+ * that commits while the job runs can be overwritten by its snapshot; the next
+ * run corrects it.
+ * <p>
+ * An empty table is seeded the same way on startup, before the web server
+ * accepts requests, so existing users never read counters that only hold the
+ * attempts since the deploy. Runs hold an advisory lock so nodes take turns.
+ */
+@Component
+@Slf4j
+public class UserStatsReconciler implements SmartInitializingSingleton {
+
+    private static final String LOCK = "SELECT pg_advisory_xact_lock(hashtext('user_stats_reconcile'))";
+
+    private static final String NEEDS_SEED = "SELECT NOT EXISTS (SELECT 1 FROM user_stats) "
+            + "AND EXISTS (SELECT 1 FROM learning_progress)";
+
+    private static final String RECONCILE = "INSERT INTO user_stats AS us (user_id, not_studied_count, "
+            + "learning_count, mastered_count, total_correct, total_incorrect, last_studied_at, updated_at) "
+            + "SELECT lp.user_id, "
+            + "COUNT(*) FILTER (WHERE lp.status = 'NOT_STUDIED'), "
+            + "COUNT(*) FILTER (WHERE lp.status = 'LEARNING'), "
+            + "COUNT(*) FILTER (WHERE lp.status = 'MASTERED'), "
+            + "COALESCE(SUM(lp.correct_count), 0), COALESCE(SUM(lp.incorrect_count), 0), "
+            + "MAX(lp.last_studied_at), :now "
+            + "FROM learning_progress lp GROUP BY lp.user_id "
+            + "ON CONFLICT (user_id) DO UPDATE SET "
+            + "not_studied_count = EXCLUDED.not_studied_count, learning_count = EXCLUDED.learning_count, "
+            + "mastered_count = EXCLUDED.mastered_count, total_correct = EXCLUDED.total_correct, "
+            + "total_incorrect = EXCLUDED.total_incorrect, last_studied_at = EXCLUDED.last_studied_at, "
+            + "updated_at = EXCLUDED.updated_at "
+            + "WHERE (us.not_studied_count, us.learning_count, us.mastered_count, us.total_correct, "
+            + "us.total_incorrect, us.last_studied_at) IS DISTINCT FROM (EXCLUDED.not_studied_count, "
+            + "EXCLUDED.learning_count, EXCLUDED.mastered_count, EXCLUDED.total_correct, "
+            + "EXCLUDED.total_incorrect, EXCLUDED.last_studied_at)";
+
+    private static final String DELETE_ORPHANS = "DELETE FROM user_stats us WHERE NOT EXISTS "
+            + "(SELECT 1 FROM learning_progress lp WHERE lp.user_id = us.user_id)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    public UserStatsReconciler(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${kardio.stats.reconcile.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Seeds the counters when the table is empty while progress exists, e.g. on
+     * the first start after it was added.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (enabled && needsSeed()) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Scheduled reconciliation of every user's counters.
+     */
+    @Scheduled(cron = "${kardio.stats.reconcile.cron:0 0 4 * * *}")
+    public void reconcileScheduled() {
+        if (enabled) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Replaces drifted counters with values recomputed from learning_progress.
+     *
+     * @return Number of corrected rows
+     */
+    public int reconcile() {
+        final MapSqlParameterSource params = new MapSqlParameterSource().addValue("now", LocalDateTime.now());
+
+        final Integer corrected = transactionTemplate.execute(status -> {
+            jdbcTemplate.getJdbcTemplate().query(LOCK, rs -> {
+            });
+            final int updated = jdbcTemplate.update(RECONCILE, params);
+            final int deleted = jdbcTemplate.update(DELETE_ORPHANS, params);
+            return updated + deleted;
+        });
+
+        log.info("Reconciled user statistics: {} rows corrected", corrected);
+        return corrected != null ? corrected : 0;
+    }
+
+    private boolean needsSeed() {
+        return Boolean.TRUE.equals(jdbcTemplate.getJdbcTemplate().queryForObject(NEEDS_SEED, Boolean.class));
+    }
+}
@@ -0,0 +1,69 @@
+package com.kardio.service.maintenance;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recomputes study_modules.vocabulary_count from vocabularies.
+ * <p>
+ * The count is maintained by the vocabulary create, import and delete paths;
+ * this job corrects drift, e.g. from restores or imports that bypassed the
+ * service. It also fills the column after it is first added, before the web
+ * server starts, so no request sees the zero default. Only modules whose count
+ * differs are written.
+ */
+@Component
+@Slf4j
+public class VocabularyCountReconciler implements SmartInitializingSingleton {
+
+    private static final String RECONCILE = "UPDATE study_modules m SET vocabulary_count = c.total "
+            + "FROM (SELECT sm.id, COUNT(v.id) AS total FROM study_modules sm "
+            + "LEFT JOIN vocabularies v ON v.module_id = sm.id AND v.deleted_at IS NULL GROUP BY sm.id) c "
+            + "WHERE m.id = c.id AND m.vocabulary_count <> c.total";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public VocabularyCountReconciler(
+            JdbcTemplate jdbcTemplate,
+            @Value("${kardio.vocabulary-count.reconcile.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Reconciles on startup, so counts are correct before traffic is served.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (enabled) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Scheduled reconciliation of every module's count.
+     */
+    @Scheduled(cron = "${kardio.vocabulary-count.reconcile.cron:0 15 4 * * *}")
+    public void reconcileScheduled() {
+        if (enabled) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Replaces drifted counts with values recomputed from vocabularies.
+     *
+     * @return Number of corrected modules
+     */
+    public int reconcile() {
+        final int corrected = jdbcTemplate.update(RECONCILE);
+        log.info("Reconciled module vocabulary counts: {} modules corrected", corrected);
+        return corrected;
+    }
+}
@@ -0,0 +1,58 @@
+package com.kardio.service.review;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.UUID;
+
+import com.kardio.repository.projection.DueReviewView;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A card in a user's review queue.
+ * Ordered by next review time, then vocabulary ID, which is the keyset the
+ * due-review query pages on. UUIDs are compared as unsigned values to match
+ * PostgreSQL's ordering of the uuid type.
+ */
+@Getter
+@AllArgsConstructor
+public class DueReviewCard {
+
+    public static final Comparator<DueReviewCard> QUEUE_ORDER = Comparator
+        .comparing(DueReviewCard::getNextReviewAt)
+        .thenComparing(DueReviewCard::getVocabularyId, DueReviewCard::compareUuids);
+
+    private final UUID vocabularyId;
+    private final UUID moduleId;
+    private final String term;
+    private final String definition;
+    private final LocalDateTime nextReviewAt;
+
+    public static DueReviewCard from(DueReviewView view) {
+        return new DueReviewCard(
+            view.getVocabularyId(),
+            view.getModuleId(),
+            view.getTerm(),
+            view.getDefinition(),
+            view.getNextReviewAt());
+    }
+
+    /**
+     * Copies the card with a new next review time.
+     *
+     * @param nextReviewAt New next review time
+     * @return The rescheduled card
+     */
+    public DueReviewCard rescheduledAt(LocalDateTime nextReviewAt) {
+        return new DueReviewCard(vocabularyId, moduleId, term, definition, nextReviewAt);
+    }
+
+    /**
+     * Compares UUIDs as unsigned 128-bit values.
+     */
+    static int compareUuids(UUID a, UUID b) {
+        final int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
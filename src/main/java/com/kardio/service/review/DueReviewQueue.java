@@ -0,0 +1,321 @@
+package com.kardio.service.review;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kardio.repository.LearningProgressRepository;
+import com.kardio.service.access.AccessChangedEvent;
+import com.kardio.service.access.AccessResourceType;
+import com.kardio.service.cache.ModuleChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Review queues of active users.
+ * Each user polling for due cards gets a {@link DueReviewWheel} loaded from the
+ * (user_id, next_review_at) index; later polls are answered from memory until
+ * the wheel's coverage runs out. Wheels follow reschedules from the attempt
+ * path on this node and are reloaded once they reach their maximum age, which
+ * bounds how long reschedules made on other nodes stay unseen. Reschedules are
+ * not broadcast: a NOTIFY in every attempt transaction would serialize attempt
+ * commits across the database.
+ * <p>
+ * Wheels cache card terms and definitions, so module changes (including
+ * vocabulary deletes) and access changes drop the wheels that may show the
+ * module, or the wheel of the user whose access changed.
+ * <p>
+ * Loads read the database outside any map lock. Reschedules that commit while
+ * a load is in flight are recorded and replayed onto the loaded wheel, and
+ * invalidations keep an in-flight load from being kept.
+ */
+@Component
+@Slf4j
+public class DueReviewQueue {
+
+    /** Keyset position before every card, used for the first page. */
+    public static final LocalDateTime FIRST_DUE_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    public static final UUID FIRST_VOCABULARY_ID = new UUID(0L, 0L);
+
+    private final LearningProgressRepository learningProgressRepository;
+    private final Cache<UUID, DueReviewWheel> wheels;
+    private final Map<UUID, Set<WheelLoad>> loads = new ConcurrentHashMap<>();
+    private final int horizonMinutes;
+    private final int capacity;
+
+    public DueReviewQueue(
+            LearningProgressRepository learningProgressRepository,
+            @Value("${kardio.reviews.queue.horizon-minutes:60}") int horizonMinutes,
+            @Value("${kardio.reviews.queue.capacity:500}") int capacity,
+            @Value("${kardio.reviews.queue.max-age-seconds:60}") long maxAgeSeconds,
+            @Value("${kardio.reviews.queue.max-users:10000}") long maxUsers) {
+        this.learningProgressRepository = learningProgressRepository;
+        this.horizonMinutes = horizonMinutes;
+        this.capacity = capacity;
+        this.wheels = Caffeine
+            .newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(maxAgeSeconds))
+            .maximumSize(maxUsers)
+            .build();
+    }
+
+    /**
+     * Gets the most overdue cards of a user.
+     *
+     * @param userId User ID
+     * @param limit  Maximum number of cards, at most the queue capacity
+     * @return Due cards, most overdue first
+     */
+    public List<DueReviewCard> poll(UUID userId, int limit) {
+        final LocalDateTime now = LocalDateTime.now();
+        final DueReviewWheel current = wheels.getIfPresent(userId);
+        final DueReviewWheel wheel = current != null && current.canServe(now, limit)
+                ? current
+                : loadAndInstall(userId, current, now);
+
+        final Set<UUID> pending = wheel.duePending(now);
+        if (!pending.isEmpty()) {
+            wheel
+                .resolvePending(
+                    pending,
+                    learningProgressRepository
+                        .findReviewEntries(userId, pending)
+                        .stream()
+                        .map(DueReviewCard::from)
+                        .toList());
+        }
+
+        return wheel.poll(now, limit);
+    }
+
+    /**
+     * Moves a card in the user's queue once the surrounding transaction commits.
+     * Users without a loaded queue are ignored; their next poll reads the
+     * committed schedule.
+     *
+     * @param userId       User ID
+     * @param vocabularyId Vocabulary ID
+     * @param nextReviewAt New next review time
+     */
+    public void reschedule(UUID userId, UUID vocabularyId, LocalDateTime nextReviewAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyReschedule(userId, vocabularyId, nextReviewAt);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyReschedule(userId, vocabularyId, nextReviewAt);
+            }
+        });
+    }
+
+    /**
+     * Drops a user's queue, so the next poll reloads it.
+     *
+     * @param userId User ID
+     */
+    public void invalidate(UUID userId) {
+        loads.compute(userId, (id, inFlight) -> {
+            wheels.invalidate(id);
+            if (inFlight != null) {
+                inFlight.forEach(WheelLoad::markStale);
+            }
+            return inFlight;
+        });
+    }
+
+    /**
+     * Drops the queues that may show cards of a changed module, e.g. after a
+     * vocabulary delete or a module delete or visibility change.
+     *
+     * @param event The committed change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onModuleChanged(ModuleChangedEvent event) {
+        invalidateModule(event.getModuleId());
+    }
+
+    /**
+     * Drops the queues that may show cards of a module whose access changed: the
+     * affected user's, or every queue showing the module.
+     *
+     * @param event The committed change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccessChanged(AccessChangedEvent event) {
+        if (event.getResourceType() != AccessResourceType.MODULE) {
+            return;
+        }
+
+        if (event.getPrincipalId() != null) {
+            invalidate(event.getPrincipalId());
+        } else {
+            invalidateModule(event.getResourceId());
+        }
+    }
+
+    /**
+     * Drops every queue, e.g. after invalidations from other nodes were missed.
+     */
+    public void invalidateAll() {
+        markLoadsStale();
+        wheels.invalidateAll();
+    }
+
+    private void invalidateModule(UUID moduleId) {
+        // Any in-flight load may have read the module before the change
+        markLoadsStale();
+        wheels.asMap().forEach((userId, wheel) -> {
+            if (wheel.containsModule(moduleId)) {
+                invalidate(userId);
+            }
+        });
+    }
+
+    private void markLoadsStale() {
+        loads.keySet().forEach(userId -> loads.computeIfPresent(userId, (id, inFlight) -> {
+            inFlight.forEach(WheelLoad::markStale);
+            return inFlight;
+        }));
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private void applyReschedule(UUID userId, UUID vocabularyId, LocalDateTime nextReviewAt) {
+        // Serialized with installs of the same user, so a reschedule is never lost to a concurrent reload
+        loads.compute(userId, (id, inFlight) -> {
+            if (inFlight != null) {
+                inFlight.forEach(load -> load.record(vocabularyId, nextReviewAt));
+            }
+            final DueReviewWheel wheel = wheels.getIfPresent(id);
+            if (wheel != null) {
+                wheel.reschedule(vocabularyId, nextReviewAt);
+            }
+            return inFlight;
+        });
+    }
+
+    /**
+     * Loads a wheel without holding any lock during the query, then installs it
+     * unless another poll installed a wheel first.
+     *
+     * @param userId User ID
+     * @param stale  The wheel that could not serve the poll, if any
+     * @param now    Poll time
+     * @return The wheel to serve the poll from
+     */
+    private DueReviewWheel loadAndInstall(UUID userId, DueReviewWheel stale, LocalDateTime now) {
+        final WheelLoad load = new WheelLoad();
+        loads.compute(userId, (id, inFlight) -> {
+            final Set<WheelLoad> registered = inFlight != null ? inFlight : new HashSet<>();
+            registered.add(load);
+            return registered;
+        });
+
+        final DueReviewWheel loaded;
+        try {
+            loaded = load(userId, now);
+        } catch (RuntimeException e) {
+            loads.computeIfPresent(userId, (id, inFlight) -> unregister(inFlight, load));
+            throw e;
+        }
+
+        final AtomicReference<DueReviewWheel> served = new AtomicReference<>(loaded);
+        loads.compute(userId, (id, inFlight) -> {
+            load.replayOnto(loaded);
+            // A load that read before a change another node committed meanwhile serves this poll only
+            if (!load.isStale()) {
+                served.set(install(id, stale, loaded));
+            }
+            return unregister(inFlight, load);
+        });
+        return served.get();
+    }
+
+    private Set<WheelLoad> unregister(Set<WheelLoad> inFlight, WheelLoad load) {
+        if (inFlight == null) {
+            return null;
+        }
+        inFlight.remove(load);
+        return inFlight.isEmpty() ? null : inFlight;
+    }
+
+    private DueReviewWheel install(UUID userId, DueReviewWheel stale, DueReviewWheel loaded) {
+        if (stale != null && wheels.asMap().replace(userId, stale, loaded)) {
+            return loaded;
+        }
+
+        // Another poll may have installed a wheel first
+        final DueReviewWheel current = wheels.asMap().putIfAbsent(userId, loaded);
+        return current != null ? current : loaded;
+    }
+
+    private DueReviewWheel load(UUID userId, LocalDateTime now) {
+        final List<DueReviewCard> cards = new ArrayList<>(capacity + 1);
+        learningProgressRepository
+            .findDueReviews(
+                userId,
+                now.plusMinutes(horizonMinutes),
+                FIRST_DUE_AT,
+                FIRST_VOCABULARY_ID,
+                capacity + 1)
+            .forEach(view -> cards.add(DueReviewCard.from(view)));
+
+        final boolean truncated = cards.size() > capacity;
+        if (truncated) {
+            cards.remove(capacity);
+        }
+
+        log.debug("Loaded review queue for user {} with {} cards (truncated: {})", userId, cards.size(), truncated);
+        return new DueReviewWheel(now, horizonMinutes, cards, truncated);
+    }
+
+    /**
+     * Reschedules seen while a wheel was being loaded, replayed in order once
+     * the load finishes. Guarded by the lock of the user's entry in loads.
+     */
+    private static final class WheelLoad {
+
+        private final List<UUID> vocabularyIds = new ArrayList<>();
+        private final List<LocalDateTime> nextReviewTimes = new ArrayList<>();
+        private boolean stale;
+
+        private void record(UUID vocabularyId, LocalDateTime nextReviewAt) {
+            vocabularyIds.add(vocabularyId);
+            nextReviewTimes.add(nextReviewAt);
+        }
+
+        private void replayOnto(DueReviewWheel wheel) {
+            for (int i = 0; i < vocabularyIds.size(); i++) {
+                wheel.reschedule(vocabularyIds.get(i), nextReviewTimes.get(i));
+            }
+        }
+
+        private void markStale() {
+            stale = true;
+        }
+
+        private boolean isStale() {
+            return stale;
+        }
+    }
+}
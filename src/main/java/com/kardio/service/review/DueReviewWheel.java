@@ -0,0 +1,232 @@
+package com.kardio.service.review;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * In-memory timing wheel over one user's upcoming reviews.
+ * Cards due within the horizon are loaded once and bucketed into one-minute
+ * slots; advancing the wheel moves expired slots into a sorted set of due
+ * cards, so polls are answered without touching the database. Rescheduled
+ * cards are moved between slots; cards that enter the horizon without being
+ * loaded are kept as pending IDs until their details are fetched.
+ * <p>
+ * The wheel only knows every card up to its coverage boundary: the end of the
+ * horizon, or the last loaded card when the load was truncated. Callers reload
+ * it once {@link #canServe} returns false.
+ */
+public class DueReviewWheel {
+
+    private static final UUID MAX_UUID = new UUID(-1L, -1L);
+
+    private final List<Map<UUID, DueReviewCard>> slots;
+    private final TreeSet<DueReviewCard> due = new TreeSet<>(DueReviewCard.QUEUE_ORDER);
+    private final Map<UUID, DueReviewCard> cards = new HashMap<>();
+    private final Map<UUID, LocalDateTime> pending = new HashMap<>();
+    private final Set<UUID> moduleIds = new HashSet<>();
+    private final LocalDateTime coveredUntil;
+    private final UUID coveredUntilId;
+    private long currentMinute;
+
+    /**
+     * Builds a wheel from the cards due up to the end of the horizon.
+     *
+     * @param now       Load time
+     * @param horizon   Number of minutes covered after the load time
+     * @param loaded    Cards ordered by queue position
+     * @param truncated Whether more cards exist after the last loaded one
+     */
+    public DueReviewWheel(LocalDateTime now, int horizon, List<DueReviewCard> loaded, boolean truncated) {
+        this.slots = new ArrayList<>(horizon + 1);
+        for (int i = 0; i <= horizon; i++) {
+            slots.add(new HashMap<>());
+        }
+        this.currentMinute = epochMinute(now);
+
+        if (truncated && !loaded.isEmpty()) {
+            final DueReviewCard last = loaded.get(loaded.size() - 1);
+            this.coveredUntil = last.getNextReviewAt();
+            this.coveredUntilId = last.getVocabularyId();
+        } else {
+            this.coveredUntil = now.plusMinutes(horizon);
+            this.coveredUntilId = MAX_UUID;
+        }
+
+        loaded.forEach(this::insert);
+    }
+
+    /**
+     * Whether the wheel can answer a poll on its own.
+     * True while the poll time is inside the coverage, or when enough due cards
+     * are loaded that anything missing would sort after them.
+     *
+     * @param now   Poll time
+     * @param limit Number of cards the poll needs
+     * @return true if {@link #poll} returns the same cards as the database would
+     */
+    public synchronized boolean canServe(LocalDateTime now, int limit) {
+        if (now.isBefore(coveredUntil) || now.isEqual(coveredUntil) && MAX_UUID.equals(coveredUntilId)) {
+            return true;
+        }
+        advance(now);
+        return due.size() >= limit;
+    }
+
+    /**
+     * Returns the most overdue cards.
+     *
+     * @param now   Poll time
+     * @param limit Maximum number of cards
+     * @return Due cards ordered by queue position
+     */
+    public synchronized List<DueReviewCard> poll(LocalDateTime now, int limit) {
+        advance(now);
+
+        final List<DueReviewCard> result = new ArrayList<>(Math.min(limit, due.size()));
+        final Iterator<DueReviewCard> iterator = due.iterator();
+        while (result.size() < limit && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    /**
+     * Moves a card to its new review time.
+     *
+     * @param vocabularyId Vocabulary ID
+     * @param nextReviewAt New next review time, or null if the card is unscheduled
+     */
+    public synchronized void reschedule(UUID vocabularyId, LocalDateTime nextReviewAt) {
+        final DueReviewCard previous = remove(vocabularyId);
+        pending.remove(vocabularyId);
+
+        if (nextReviewAt == null || !isCovered(nextReviewAt, vocabularyId)) {
+            return;
+        }
+
+        if (previous != null) {
+            insert(previous.rescheduledAt(nextReviewAt));
+        } else {
+            pending.put(vocabularyId, nextReviewAt);
+        }
+    }
+
+    /**
+     * Whether the wheel has held a card of a module since it was loaded. Modules
+     * are not forgotten when their cards move out, so this errs towards true.
+     *
+     * @param moduleId Module ID
+     * @return true if cached card details may come from the module
+     */
+    public synchronized boolean containsModule(UUID moduleId) {
+        return moduleIds.contains(moduleId);
+    }
+
+    /**
+     * Gets the pending cards that are due and need their details loaded.
+     *
+     * @param now Poll time
+     * @return IDs of due pending cards
+     */
+    public synchronized Set<UUID> duePending(LocalDateTime now) {
+        final Set<UUID> ids = new HashSet<>();
+        pending.forEach((vocabularyId, nextReviewAt) -> {
+            if (!nextReviewAt.isAfter(now)) {
+                ids.add(vocabularyId);
+            }
+        });
+        return ids;
+    }
+
+    /**
+     * Adds loaded details for pending cards.
+     * The pending review time is kept, since it may be newer than what was read.
+     * Pending cards without details are no longer accessible and are dropped.
+     *
+     * @param vocabularyIds IDs that were requested
+     * @param loaded        Cards that were found
+     */
+    public synchronized void resolvePending(Set<UUID> vocabularyIds, List<DueReviewCard> loaded) {
+        for (DueReviewCard card : loaded) {
+            final LocalDateTime nextReviewAt = pending.remove(card.getVocabularyId());
+            if (nextReviewAt != null) {
+                insert(card.rescheduledAt(nextReviewAt));
+            }
+        }
+        vocabularyIds.forEach(pending::remove);
+    }
+
+    /**
+     * Moves every slot that has passed into the due set, then the cards of the
+     * current slot that are already due.
+     */
+    private void advance(LocalDateTime now) {
+        final long nowMinute = epochMinute(now);
+        final long steps = Math.min(nowMinute - currentMinute, slots.size());
+        for (long i = 0; i < steps; i++) {
+            drainSlot(currentMinute + i);
+        }
+        if (nowMinute > currentMinute) {
+            currentMinute = nowMinute;
+        }
+
+        final Iterator<DueReviewCard> iterator = slot(currentMinute).values().iterator();
+        while (iterator.hasNext()) {
+            final DueReviewCard card = iterator.next();
+            if (!card.getNextReviewAt().isAfter(now)) {
+                iterator.remove();
+                due.add(card);
+            }
+        }
+    }
+
+    private void drainSlot(long minute) {
+        final Map<UUID, DueReviewCard> slot = slot(minute);
+        due.addAll(slot.values());
+        slot.clear();
+    }
+
+    private void insert(DueReviewCard card) {
+        cards.put(card.getVocabularyId(), card);
+        if (card.getModuleId() != null) {
+            moduleIds.add(card.getModuleId());
+        }
+
+        final long minute = epochMinute(card.getNextReviewAt());
+        if (minute < currentMinute) {
+            due.add(card);
+        } else {
+            slot(minute).put(card.getVocabularyId(), card);
+        }
+    }
+
+    private DueReviewCard remove(UUID vocabularyId) {
+        final DueReviewCard card = cards.remove(vocabularyId);
+        if (card != null && !due.remove(card)) {
+            slot(epochMinute(card.getNextReviewAt())).remove(vocabularyId);
+        }
+        return card;
+    }
+
+    private boolean isCovered(LocalDateTime nextReviewAt, UUID vocabularyId) {
+        final int byTime = nextReviewAt.compareTo(coveredUntil);
+        return byTime < 0 || byTime == 0 && DueReviewCard.compareUuids(vocabularyId, coveredUntilId) <= 0;
+    }
+
+    private Map<UUID, DueReviewCard> slot(long minute) {
+        return slots.get((int) Math.floorMod(minute, (long) slots.size()));
+    }
+
+    private static long epochMinute(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60L);
+    }
+}
@@ -0,0 +1,106 @@
+package com.kardio.service.review;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.kardio.entity.enums.ReviewAlgorithm;
+
+/**
+ * Free Spaced Repetition Scheduler (FSRS v4.5) with the default parameters.
+ * Each card carries a stability (days until recall probability falls to 90%)
+ * and a difficulty (1-10); the next interval is the time at which the
+ * predicted recall probability reaches the desired retention.
+ */
+@Component
+public class FsrsReviewScheduler implements ReviewScheduler {
+
+    private static final double[] W = {
+            0.4872, 1.4003, 3.7145, 13.8206, 5.1618, 1.2298, 0.8975, 0.031, 1.6474, 0.1367, 1.0461, 2.1072, 0.0793,
+            0.3246, 1.587, 0.2272, 2.8755 };
+    private static final double DECAY = -0.5;
+    private static final double FACTOR = 19.0 / 81.0;
+    private static final double MIN_DIFFICULTY = 1.0;
+    private static final double MAX_DIFFICULTY = 10.0;
+    private static final double MIN_STABILITY = 0.01;
+    private static final double MINUTES_PER_DAY = 24 * 60;
+
+    private final double intervalModifier;
+
+    public FsrsReviewScheduler(@Value("${kardio.review.fsrs.desired-retention:0.9}") double desiredRetention) {
+        // Days of stability -> days of interval for the desired retention
+        this.intervalModifier = (Math.pow(desiredRetention, 1 / DECAY) - 1) / FACTOR;
+    }
+
+    @Override
+    public ReviewAlgorithm getAlgorithm() {
+        return ReviewAlgorithm.FSRS;
+    }
+
+    @Override
+    public int review(ReviewCard card, ReviewGrade grade, long elapsedMinutes) {
+        final int rating = grade.getRating();
+        final boolean isNew = card.getStability() <= 0;
+
+        if (isNew) {
+            card.setStability(W[rating - 1]);
+            card.setDifficulty(initialDifficulty(rating));
+        } else {
+            final double stability = card.getStability();
+            final double difficulty = card.getDifficulty();
+            final double retrievability = Math.pow(1 + FACTOR * (elapsedMinutes / MINUTES_PER_DAY) / stability, DECAY);
+
+            card
+                .setStability(
+                    grade == ReviewGrade.AGAIN ? forgetStability(difficulty, stability, retrievability)
+                            : recallStability(difficulty, stability, retrievability, grade));
+            card.setDifficulty(nextDifficulty(difficulty, rating));
+        }
+
+        final int interval;
+        if (grade == ReviewGrade.AGAIN) {
+            if (!isNew) {
+                card.setLapses(card.getLapses() + 1);
+            }
+            card.setRepetitions(0);
+            interval = RELEARN_INTERVAL_MINUTES;
+        } else {
+            card.setRepetitions(card.getRepetitions() + 1);
+            final double days = Math.max(1, Math.round(card.getStability() * intervalModifier));
+            interval = (int) Math.min(MAX_INTERVAL_MINUTES, days * MINUTES_PER_DAY);
+        }
+
+        card.setIntervalMinutes(interval);
+        return interval;
+    }
+
+    private static double initialDifficulty(int rating) {
+        return clampDifficulty(W[4] - (rating - 3) * W[5]);
+    }
+
+    private static double nextDifficulty(double difficulty, int rating) {
+        final double next = difficulty - W[6] * (rating - 3);
+        // Mean reversion towards the difficulty of a new card rated GOOD
+        return clampDifficulty(W[7] * initialDifficulty(3) + (1 - W[7]) * next);
+    }
+
+    private static double recallStability(
+            double difficulty,
+            double stability,
+            double retrievability,
+            ReviewGrade grade) {
+        final double hardPenalty = grade == ReviewGrade.HARD ? W[15] : 1;
+        final double easyBonus = grade == ReviewGrade.EASY ? W[16] : 1;
+        return stability * (1 + Math.exp(W[8]) * (11 - difficulty) * Math.pow(stability, -W[9])
+                * (Math.exp((1 - retrievability) * W[10]) - 1) * hardPenalty * easyBonus);
+    }
+
+    private static double forgetStability(double difficulty, double stability, double retrievability) {
+        final double next = W[11] * Math.pow(difficulty, -W[12]) * (Math.pow(stability + 1, W[13]) - 1)
+                * Math.exp((1 - retrievability) * W[14]);
+        return Math.max(MIN_STABILITY, Math.min(next, stability));
+    }
+
+    private static double clampDifficulty(double difficulty) {
+        return Math.min(MAX_DIFFICULTY, Math.max(MIN_DIFFICULTY, difficulty));
+    }
+}
@@ -0,0 +1,21 @@
+package com.kardio.service.review;
+
+/**
+ * Per-card scheduling state read and updated by a {@link ReviewScheduler}.
+ * SM-2 uses the ease factor; FSRS uses stability and difficulty. Interval,
+ * repetitions and lapses are shared.
+ */
+public interface ReviewCard extends ReviewCardView {
+
+    void setEaseFactor(double easeFactor);
+
+    void setStability(double stability);
+
+    void setDifficulty(double difficulty);
+
+    void setIntervalMinutes(int intervalMinutes);
+
+    void setRepetitions(int repetitions);
+
+    void setLapses(int lapses);
+}
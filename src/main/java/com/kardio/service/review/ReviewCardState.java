@@ -0,0 +1,39 @@
+package com.kardio.service.review;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Detached, reusable copy of a card's scheduling state.
+ * Used when the result is written with a statement instead of through a
+ * managed entity.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReviewCardState implements ReviewCard {
+
+    private double easeFactor = Sm2ReviewScheduler.INITIAL_EASE_FACTOR;
+    private double stability;
+    private double difficulty;
+    private int intervalMinutes;
+    private int repetitions;
+    private int lapses;
+
+    /**
+     * Overwrites this state with the state of another card.
+     *
+     * @param card Source card
+     * @return This state
+     */
+    public ReviewCardState copyFrom(ReviewCardView card) {
+        this.easeFactor = card.getEaseFactor();
+        this.stability = card.getStability();
+        this.difficulty = card.getDifficulty();
+        this.intervalMinutes = card.getIntervalMinutes();
+        this.repetitions = card.getRepetitions();
+        this.lapses = card.getLapses();
+        return this;
+    }
+}
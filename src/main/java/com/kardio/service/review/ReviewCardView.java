@@ -0,0 +1,19 @@
+package com.kardio.service.review;
+
+/**
+ * Read-only view of a card's scheduling state.
+ */
+public interface ReviewCardView {
+
+    double getEaseFactor();
+
+    double getStability();
+
+    double getDifficulty();
+
+    int getIntervalMinutes();
+
+    int getRepetitions();
+
+    int getLapses();
+}
@@ -0,0 +1,47 @@
+package com.kardio.service.review;
+
+/**
+ * Grade of a single review, derived from correctness and response time.
+ */
+public enum ReviewGrade {
+    AGAIN(1), HARD(2), GOOD(3), EASY(4);
+
+    private static final int EASY_RESPONSE_MS = 3000;
+    private static final int HARD_RESPONSE_MS = 10000;
+
+    private final int rating;
+
+    ReviewGrade(int rating) {
+        this.rating = rating;
+    }
+
+    /**
+     * Numeric rating from 1 (again) to 4 (easy).
+     *
+     * @return The rating
+     */
+    public int getRating() {
+        return rating;
+    }
+
+    /**
+     * Grades an attempt. Wrong answers are AGAIN; correct answers are graded by
+     * how quickly they were given, and GOOD when no response time is known.
+     *
+     * @param correct        Whether the answer was correct
+     * @param responseTimeMs Response time in milliseconds, may be null
+     * @return The grade
+     */
+    public static ReviewGrade of(boolean correct, Integer responseTimeMs) {
+        if (!correct) {
+            return AGAIN;
+        }
+        if (responseTimeMs == null) {
+            return GOOD;
+        }
+        if (responseTimeMs < EASY_RESPONSE_MS) {
+            return EASY;
+        }
+        return responseTimeMs > HARD_RESPONSE_MS ? HARD : GOOD;
+    }
+}
@@ -0,0 +1,40 @@
+package com.kardio.service.review;
+
+import com.kardio.entity.enums.ReviewAlgorithm;
+
+/**
+ * Spaced-repetition scheduling algorithm.
+ * <p>
+ * Implementations are stateless and pure: the result depends only on the
+ * arguments and no objects are allocated, so the same code serves single
+ * attempts and bulk rescheduling.
+ */
+public interface ReviewScheduler {
+
+    /**
+     * Interval after a failed review, before the card re-enters the schedule.
+     */
+    int RELEARN_INTERVAL_MINUTES = 30;
+
+    /**
+     * Upper bound for any interval (one year).
+     */
+    int MAX_INTERVAL_MINUTES = 365 * 24 * 60;
+
+    /**
+     * The algorithm implemented by this scheduler.
+     *
+     * @return The algorithm
+     */
+    ReviewAlgorithm getAlgorithm();
+
+    /**
+     * Applies a review to the card, updating its state and interval.
+     *
+     * @param card           Card state, updated in place
+     * @param grade          Grade of the review
+     * @param elapsedMinutes Minutes since the previous review (0 for a new card)
+     * @return Minutes until the next review
+     */
+    int review(ReviewCard card, ReviewGrade grade, long elapsedMinutes);
+}
@@ -0,0 +1,78 @@
+package com.kardio.service.review;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kardio.entity.enums.ReviewAlgorithm;
+import com.kardio.repository.UserSettingsRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Picks the review scheduler for a user.
+ * Users can choose an algorithm with the {@value #SETTING_KEY} setting; everyone
+ * else gets the deployment default. Choices are cached briefly so the attempt
+ * path does not read user settings on every answer.
+ */
+@Component
+@Slf4j
+public class ReviewSchedulerResolver {
+
+    public static final String SETTING_KEY = "review.scheduler";
+
+    private final UserSettingsRepository userSettingsRepository;
+    private final Map<ReviewAlgorithm, ReviewScheduler> schedulers = new EnumMap<>(ReviewAlgorithm.class);
+    private final ReviewAlgorithm defaultAlgorithm;
+    private final Cache<UUID, ReviewAlgorithm> userAlgorithms;
+
+    public ReviewSchedulerResolver(
+            List<ReviewScheduler> schedulers,
+            UserSettingsRepository userSettingsRepository,
+            @Value("${kardio.review.scheduler.default:sm2}") String defaultAlgorithm,
+            @Value("${kardio.review.scheduler.user-cache-minutes:10}") long userCacheMinutes) {
+        this.userSettingsRepository = userSettingsRepository;
+        schedulers.forEach(scheduler -> this.schedulers.put(scheduler.getAlgorithm(), scheduler));
+
+        final ReviewAlgorithm configured = ReviewAlgorithm.fromValue(defaultAlgorithm);
+        if (configured == null || !this.schedulers.containsKey(configured)) {
+            throw new IllegalStateException("Unknown review scheduler: " + defaultAlgorithm);
+        }
+        this.defaultAlgorithm = configured;
+        this.userAlgorithms = Caffeine
+            .newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(userCacheMinutes))
+            .maximumSize(100_000)
+            .build();
+    }
+
+    /**
+     * Gets the scheduler for a user, falling back to the deployment default.
+     *
+     * @param userId User ID
+     * @return The scheduler to use for the user's cards
+     */
+    public ReviewScheduler forUser(UUID userId) {
+        return schedulers.get(userAlgorithms.get(userId, this::loadAlgorithm));
+    }
+
+    private ReviewAlgorithm loadAlgorithm(UUID userId) {
+        final String value = userSettingsRepository.findValueByUserIdAndSettingKey(userId, SETTING_KEY).orElse(null);
+        final ReviewAlgorithm algorithm = ReviewAlgorithm.fromValue(value);
+
+        if (algorithm == null || !schedulers.containsKey(algorithm)) {
+            if (value != null) {
+                log.warn("Ignoring unknown review scheduler '{}' for user: {}", value, userId);
+            }
+            return defaultAlgorithm;
+        }
+        return algorithm;
+    }
+}
@@ -0,0 +1,70 @@
+package com.kardio.service.review;
+
+import org.springframework.stereotype.Component;
+
+import com.kardio.entity.enums.ReviewAlgorithm;
+
+/**
+ * SuperMemo 2 scheduler.
+ * Successful reviews grow the interval by the card's ease factor (1 day, 6 days,
+ * then previous interval times ease); the ease factor itself moves with the
+ * quality of each answer and never drops below 1.3.
+ */
+@Component
+public class Sm2ReviewScheduler implements ReviewScheduler {
+
+    public static final double INITIAL_EASE_FACTOR = 2.5;
+
+    private static final double MIN_EASE_FACTOR = 1.3;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int SECOND_INTERVAL_DAYS = 6;
+
+    @Override
+    public ReviewAlgorithm getAlgorithm() {
+        return ReviewAlgorithm.SM2;
+    }
+
+    @Override
+    public int review(ReviewCard card, ReviewGrade grade, long elapsedMinutes) {
+        final double easeFactor = card.getEaseFactor();
+        final int interval;
+
+        if (grade == ReviewGrade.AGAIN) {
+            if (card.getRepetitions() > 0) {
+                card.setLapses(card.getLapses() + 1);
+            }
+            card.setRepetitions(0);
+            interval = RELEARN_INTERVAL_MINUTES;
+        } else {
+            final int repetitions = card.getRepetitions() + 1;
+            card.setRepetitions(repetitions);
+
+            if (repetitions == 1) {
+                interval = MINUTES_PER_DAY;
+            } else if (repetitions == 2) {
+                interval = SECOND_INTERVAL_DAYS * MINUTES_PER_DAY;
+            } else {
+                final double previous = Math.max(card.getIntervalMinutes(), MINUTES_PER_DAY);
+                interval = (int) Math.min(MAX_INTERVAL_MINUTES, Math.round(previous * easeFactor));
+            }
+        }
+
+        // EF' = EF + (0.1 - (5 - q) * (0.08 + (5 - q) * 0.02))
+        final int missing = 5 - quality(grade);
+        card.setEaseFactor(Math.max(MIN_EASE_FACTOR, easeFactor + 0.1 - missing * (0.08 + missing * 0.02)));
+        card.setIntervalMinutes(interval);
+        return interval;
+    }
+
+    /**
+     * Maps a grade onto the SM-2 quality scale (0-5, below 3 is a failure).
+     */
+    private static int quality(ReviewGrade grade) {
+        return switch (grade) {
+        case AGAIN -> 1;
+        case HARD -> 3;
+        case GOOD -> 4;
+        case EASY -> 5;
+        };
+    }
+}
@@ -0,0 +1,149 @@
+package com.kardio.service.session;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.kardio.entity.enums.SessionType;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * In-memory view of an open study session used on the attempt hot path.
+ * Holds everything needed to authorize and validate an attempt without
+ * touching the database.
+ */
+@Getter
+public class ActiveSession {
+
+    private final UUID sessionId;
+    private final UUID userId;
+    private final UUID moduleId;
+    private final String moduleName;
+    private final SessionType sessionType;
+    private final LocalDateTime startTime;
+    @Getter(AccessLevel.NONE)
+    private final Set<UUID> vocabularyIds;
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger totalItems;
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger correctItems;
+    private final SessionCardDeck deck;
+    private volatile boolean ended;
+
+    public ActiveSession(
+            UUID sessionId,
+            UUID userId,
+            UUID moduleId,
+            String moduleName,
+            SessionType sessionType,
+            LocalDateTime startTime,
+            int totalItems,
+            int correctItems,
+            Collection<UUID> vocabularyIds,
+            SessionCardDeck deck) {
+        this.sessionId = sessionId;
+        this.userId = userId;
+        this.moduleId = moduleId;
+        this.moduleName = moduleName;
+        this.sessionType = sessionType;
+        this.startTime = startTime;
+        this.totalItems = new AtomicInteger(totalItems);
+        this.correctItems = new AtomicInteger(correctItems);
+        this.deck = deck;
+        this.vocabularyIds = ConcurrentHashMap.newKeySet(vocabularyIds.size());
+        this.vocabularyIds.addAll(vocabularyIds);
+    }
+
+    /**
+     * Check if the session belongs to a user
+     *
+     * @param userId the user ID to check
+     * @return true if the user owns the session
+     */
+    public boolean isOwnedBy(UUID userId) {
+        return this.userId.equals(userId);
+    }
+
+    /**
+     * Check if a vocabulary is known to belong to the session's module
+     *
+     * @param vocabularyId the vocabulary ID
+     * @return true if the vocabulary is part of the module
+     */
+    public boolean containsVocabulary(UUID vocabularyId) {
+        return vocabularyIds.contains(vocabularyId);
+    }
+
+    /**
+     * Remember vocabularies that were added to the module after the session started
+     *
+     * @param ids vocabulary IDs confirmed to belong to the module
+     */
+    public void addVocabularies(Collection<UUID> ids) {
+        vocabularyIds.addAll(ids);
+    }
+
+    /**
+     * Forget a vocabulary that was deleted from the module, so it is no longer
+     * served or accepted without a database check
+     *
+     * @param vocabularyId the deleted vocabulary ID
+     */
+    public void removeVocabulary(UUID vocabularyId) {
+        vocabularyIds.remove(vocabularyId);
+        if (deck != null) {
+            deck.remove(vocabularyId);
+        }
+    }
+
+    /**
+     * Record attempts in the running counters
+     *
+     * @param total   number of attempts
+     * @param correct number of correct attempts
+     */
+    public void recordAttempts(int total, int correct) {
+        totalItems.addAndGet(total);
+        correctItems.addAndGet(correct);
+    }
+
+    /**
+     * Put a missed card back into the session's deck, if the session has one
+     *
+     * @param vocabularyId the vocabulary ID of the missed card
+     */
+    public void requeueCard(UUID vocabularyId) {
+        if (deck != null) {
+            deck.requeue(vocabularyId);
+        }
+    }
+
+    /**
+     * Mark the session as ended so in-flight attempts are rejected
+     */
+    public void markEnded() {
+        this.ended = true;
+    }
+
+    public int getTotalItems() {
+        return totalItems.get();
+    }
+
+    public int getCorrectItems() {
+        return correctItems.get();
+    }
+
+    /**
+     * Approximate memory held by the entry, for bounding the registry
+     *
+     * @return one unit for the session plus one per vocabulary ID and per deck card
+     */
+    public int getWeight() {
+        return 1 + vocabularyIds.size() + (deck != null ? deck.size() : 0);
+    }
+}
@@ -0,0 +1,168 @@
+package com.kardio.service.session;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kardio.entity.StudySession;
+import com.kardio.service.cache.VocabularyDeletedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registry of open study sessions keyed by session ID.
+ * Entries are added once the transaction that created a session (or first used
+ * it after a restart) commits, so a rolled-back create leaves nothing behind.
+ * They are removed when the session ends and expire after a period of
+ * inactivity. Memory is bounded by weight: decks hold card bodies, so an entry
+ * weighs one unit per vocabulary and deck card. Deleted vocabularies are
+ * dropped from the decks of their module's sessions.
+ * <p>
+ * The registry is local to each node. Sessions closed on any node are removed
+ * through {@link SessionClosedEvent}, which CacheInvalidationBus carries to the
+ * other nodes, and the synchronous attempt path re-checks end_time on its
+ * counter update in case a close has not arrived yet.
+ */
+@Component
+@Slf4j
+public class ActiveSessionRegistry {
+
+    private final Cache<UUID, ActiveSession> sessions;
+
+    public ActiveSessionRegistry(
+            @Value("${kardio.sessions.registry.idle-minutes:30}") long idleMinutes,
+            @Value("${kardio.sessions.registry.max-weight:500000}") long maxWeight) {
+        this.sessions = Caffeine
+            .newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+            .maximumWeight(maxWeight)
+            .weigher((UUID sessionId, ActiveSession session) -> session.getWeight())
+            .build();
+    }
+
+    /**
+     * Registers an open session once the surrounding transaction commits; the
+     * returned entry can be used in the transaction meanwhile.
+     *
+     * @param session       The persisted session
+     * @param vocabularyIds IDs of the vocabularies in the session's module
+     * @return The registered entry
+     */
+    public ActiveSession register(StudySession session, Collection<UUID> vocabularyIds) {
+        return register(session, vocabularyIds, null);
+    }
+
+    /**
+     * Registers an open session that serves its cards from a prefetched deck,
+     * once the surrounding transaction commits.
+     *
+     * @param session The persisted session
+     * @param deck    Card order of the session, covering every vocabulary of the module
+     * @return The registered entry
+     */
+    public ActiveSession register(StudySession session, SessionCardDeck deck) {
+        return register(session, deck.getVocabularyIds(), deck);
+    }
+
+    private ActiveSession register(StudySession session, Collection<UUID> vocabularyIds, SessionCardDeck deck) {
+        final ActiveSession activeSession = new ActiveSession(
+            session.getId(),
+            session.getUser().getId(),
+            session.getModule().getId(),
+            session.getModule().getName(),
+            session.getSessionType(),
+            session.getStartTime(),
+            session.getTotalItems(),
+            session.getCorrectItems(),
+            vocabularyIds,
+            deck);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(activeSession);
+            return activeSession;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(activeSession);
+            }
+        });
+        return activeSession;
+    }
+
+    private void put(ActiveSession activeSession) {
+        sessions.put(activeSession.getSessionId(), activeSession);
+        log
+            .debug(
+                "Registered active session {} with weight {}",
+                activeSession.getSessionId(),
+                activeSession.getWeight());
+    }
+
+    /**
+     * Finds a registered session.
+     *
+     * @param sessionId Session ID
+     * @return The entry if the session is registered
+     */
+    public Optional<ActiveSession> find(UUID sessionId) {
+        return Optional.ofNullable(sessions.getIfPresent(sessionId));
+    }
+
+    /**
+     * Marks a session as ended and removes it from the registry.
+     *
+     * @param sessionId Session ID
+     */
+    public void remove(UUID sessionId) {
+        final ActiveSession activeSession = sessions.asMap().remove(sessionId);
+        if (activeSession != null) {
+            activeSession.markEnded();
+        }
+    }
+
+    /**
+     * Drops every entry without marking it ended, e.g. after closes or deletes
+     * from other nodes may have been missed. Open sessions are registered again
+     * from the database on their next attempt, which re-checks end_time.
+     */
+    public void invalidateAll() {
+        sessions.invalidateAll();
+    }
+
+    /**
+     * Removes a session once the write that closed it commits.
+     *
+     * @param event The committed close
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionClosed(SessionClosedEvent event) {
+        remove(event.getSessionId());
+    }
+
+    /**
+     * Drops a deleted vocabulary from the open sessions of its module once the
+     * delete commits.
+     *
+     * @param event The committed delete
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVocabularyDeleted(VocabularyDeletedEvent event) {
+        sessions
+            .asMap()
+            .values()
+            .stream()
+            .filter(activeSession -> activeSession.getModuleId().equals(event.getModuleId()))
+            .forEach(activeSession -> activeSession.removeVocabulary(event.getVocabularyId()));
+    }
+}
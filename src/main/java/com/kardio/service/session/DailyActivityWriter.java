@@ -0,0 +1,84 @@
+package com.kardio.service.session;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kardio.entity.StudySession;
+import com.kardio.entity.enums.SessionType;
+import com.kardio.repository.UserDailyActivityRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applies session starts and ends to the user_daily_activity rollup.
+ * Attempts are added by {@link SessionTallyWriter} together with the session
+ * counters.
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyActivityWriter {
+
+    private final UserDailyActivityRepository userDailyActivityRepository;
+
+    /**
+     * Counts a started session on the day it started.
+     *
+     * @param session The started session
+     */
+    @Transactional
+    public void recordSessionStarted(StudySession session) {
+        userDailyActivityRepository
+            .addSession(
+                session.getUser().getId(),
+                session.getStartTime().toLocalDate(),
+                session.getSessionType().name());
+    }
+
+    /**
+     * Adds the time of an ended session, split across the days it spans.
+     *
+     * @param session The ended session
+     */
+    @Transactional
+    public void recordSessionEnded(StudySession session) {
+        if (session.getEndTime() == null) {
+            return;
+        }
+
+        recordSessionEnded(
+            session.getUser().getId(),
+            session.getSessionType(),
+            session.getStartTime(),
+            session.getEndTime());
+    }
+
+    /**
+     * Adds the time of an ended session that was closed without loading the
+     * entity, split across the days it spans.
+     *
+     * @param userId      User ID
+     * @param sessionType Session type
+     * @param start       Session start time
+     * @param end         Session end time
+     */
+    @Transactional
+    public void recordSessionEnded(UUID userId, SessionType sessionType, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime from = start;
+        while (from.isBefore(end)) {
+            final LocalDate day = from.toLocalDate();
+            final LocalDateTime nextDay = day.plusDays(1).atStartOfDay();
+            final LocalDateTime until = end.isBefore(nextDay) ? end : nextDay;
+
+            final long seconds = Duration.between(from, until).getSeconds();
+            if (seconds > 0) {
+                userDailyActivityRepository.addSeconds(userId, day, sessionType.name(), seconds);
+            }
+            from = until;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.kardio.service.session;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import lombok.Getter;
+
+/**
+ * Accumulates the effect of one or more attempts on a single session: the
+ * session counters, the response-time aggregate and per-vocabulary tallies.
+ * Tallies are kept in vocabulary ID order, so writers of concurrent tallies
+ * lock the per-vocabulary rows in the same order.
+ */
+@Getter
+public class SessionAttemptTally {
+
+    private int totalItems;
+    private int correctItems;
+    private long responseTimeSumMs;
+    private int responseTimeCount;
+    private final Map<UUID, int[]> vocabularyTallies = new TreeMap<>();
+
+    /**
+     * Add an attempt to the tally
+     *
+     * @param vocabularyId   the vocabulary answered
+     * @param isCorrect      whether the answer was correct
+     * @param responseTimeMs response time in milliseconds, or null if not timed
+     * @return this tally
+     */
+    public SessionAttemptTally add(UUID vocabularyId, boolean isCorrect, Integer responseTimeMs) {
+        totalItems++;
+        if (isCorrect) {
+            correctItems++;
+        }
+        if (responseTimeMs != null) {
+            responseTimeSumMs += responseTimeMs;
+            responseTimeCount++;
+        }
+
+        final int[] tally = vocabularyTallies.computeIfAbsent(vocabularyId, id -> new int[2]);
+        tally[0]++;
+        if (isCorrect) {
+            tally[1]++;
+        }
+        return this;
+    }
+}
@@ -0,0 +1,59 @@
+package com.kardio.service.session;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.kardio.entity.enums.DifficultyLevel;
+import com.kardio.entity.enums.LearningStatus;
+import com.kardio.repository.projection.SessionCardView;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A card of a study session with the user's progress at session start.
+ */
+@Getter
+@AllArgsConstructor
+public class SessionCard {
+    private final UUID vocabularyId;
+    private final String term;
+    private final String definition;
+    private final String example;
+    private final String pronunciation;
+    private final String partOfSpeech;
+    private final DifficultyLevel difficultyLevel;
+    private final LearningStatus status;
+    private final int correctCount;
+    private final int incorrectCount;
+    private final LocalDateTime nextReviewAt;
+
+    public static SessionCard from(SessionCardView view) {
+        return new SessionCard(
+            view.getVocabularyId(),
+            view.getTerm(),
+            view.getDefinition(),
+            view.getExample(),
+            view.getPronunciation(),
+            view.getPartOfSpeech(),
+            view.getDifficultyLevel(),
+            view.getStatus() != null ? view.getStatus() : LearningStatus.NOT_STUDIED,
+            view.getCorrectCount() != null ? view.getCorrectCount() : 0,
+            view.getIncorrectCount() != null ? view.getIncorrectCount() : 0,
+            view.getNextReviewAt());
+    }
+
+    public int getAttempts() {
+        return correctCount + incorrectCount;
+    }
+
+    /**
+     * Accuracy rate at session start
+     *
+     * @return Percentage of correct answers (0-100), 0 for unseen cards
+     */
+    public double getAccuracyRate() {
+        final int attempts = getAttempts();
+        return attempts == 0 ? 0 : (double) correctCount / attempts * 100;
+    }
+}
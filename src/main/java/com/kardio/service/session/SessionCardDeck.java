@@ -0,0 +1,104 @@
+package com.kardio.service.session;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.kardio.entity.enums.LearningStatus;
+
+/**
+ * Card order of a LEARN or FLASHCARD session.
+ * The order is computed once when the session is registered: mastered cards
+ * last, then weakest accuracy first, unseen cards before cards with the same
+ * accuracy, then earliest review. Batches are taken from the front; cards
+ * answered incorrectly go back to the end so they are asked again.
+ */
+public class SessionCardDeck {
+
+    static final Comparator<SessionCard> STUDY_ORDER = Comparator
+        .comparing((SessionCard card) -> card.getStatus() == LearningStatus.MASTERED)
+        .thenComparingDouble(SessionCard::getAccuracyRate)
+        .thenComparingInt(SessionCard::getAttempts)
+        .thenComparing(SessionCard::getNextReviewAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()));
+
+    private final Map<UUID, SessionCard> cards;
+    private final Deque<SessionCard> queue;
+    private final Set<UUID> queued;
+
+    /**
+     * Builds a deck from the module's cards.
+     *
+     * @param cards Cards in module order; the sort is stable, so ties keep it
+     */
+    public SessionCardDeck(List<SessionCard> cards) {
+        final List<SessionCard> ordered = new ArrayList<>(cards);
+        ordered.sort(STUDY_ORDER);
+
+        this.cards = new HashMap<>(ordered.size() * 2);
+        this.queued = new HashSet<>(ordered.size() * 2);
+        this.queue = new ArrayDeque<>(ordered);
+        for (SessionCard card : ordered) {
+            this.cards.put(card.getVocabularyId(), card);
+            this.queued.add(card.getVocabularyId());
+        }
+    }
+
+    /**
+     * Takes the next cards to study.
+     *
+     * @param count Maximum number of cards
+     * @return Cards in study order, empty once the deck is exhausted
+     */
+    public synchronized List<SessionCard> next(int count) {
+        final List<SessionCard> batch = new ArrayList<>(Math.min(count, queue.size()));
+        while (batch.size() < count && !queue.isEmpty()) {
+            final SessionCard card = queue.pollFirst();
+            queued.remove(card.getVocabularyId());
+            batch.add(card);
+        }
+        return batch;
+    }
+
+    /**
+     * Puts a card back at the end of the deck, unless it is still waiting.
+     *
+     * @param vocabularyId Vocabulary ID of the missed card
+     */
+    public synchronized void requeue(UUID vocabularyId) {
+        final SessionCard card = cards.get(vocabularyId);
+        if (card != null && queued.add(vocabularyId)) {
+            queue.addLast(card);
+        }
+    }
+
+    /**
+     * Drops a card that no longer belongs to the module, e.g. after a delete.
+     *
+     * @param vocabularyId Vocabulary ID of the removed card
+     */
+    public synchronized void remove(UUID vocabularyId) {
+        if (cards.remove(vocabularyId) != null && queued.remove(vocabularyId)) {
+            queue.removeIf(card -> card.getVocabularyId().equals(vocabularyId));
+        }
+    }
+
+    public synchronized int remaining() {
+        return queue.size();
+    }
+
+    public synchronized int size() {
+        return cards.size();
+    }
+
+    public Set<UUID> getVocabularyIds() {
+        return cards.keySet();
+    }
+}
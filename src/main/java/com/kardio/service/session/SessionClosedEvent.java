@@ -0,0 +1,17 @@
+package com.kardio.service.session;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published when a session stops accepting attempts: it was ended by its user,
+ * closed as abandoned or deleted.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SessionClosedEvent {
+
+    private final UUID sessionId;
+}
@@ -0,0 +1,79 @@
+package com.kardio.service.session;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kardio.repository.SessionVocabularyStatRepository;
+import com.kardio.repository.StudySessionRepository;
+import com.kardio.repository.UserDailyActivityRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applies a {@link SessionAttemptTally} to the session counters, the
+ * per-vocabulary analysis tallies and the user's daily activity rollup.
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionTallyWriter {
+
+    private final StudySessionRepository studySessionRepository;
+    private final SessionVocabularyStatRepository sessionVocabularyStatRepository;
+    private final UserDailyActivityRepository userDailyActivityRepository;
+
+    /**
+     * Writes a tally with one upsert per distinct vocabulary, one upsert of the
+     * day's activity and one atomic counter update. The counter update runs last
+     * so the session row lock is held only until commit. Used for attempts that
+     * were already acknowledged, so they count even if the session has ended.
+     *
+     * @param sessionId Session ID
+     * @param tally     Accumulated attempts
+     */
+    @Transactional
+    public void write(UUID sessionId, SessionAttemptTally tally) {
+        writeStats(sessionId, tally);
+        studySessionRepository
+            .incrementCounters(
+                sessionId,
+                tally.getTotalItems(),
+                tally.getCorrectItems(),
+                tally.getResponseTimeSumMs(),
+                tally.getResponseTimeCount());
+    }
+
+    /**
+     * Writes a tally like {@link #write(UUID, SessionAttemptTally)}, but only
+     * counts it if the session is still open. When it is not, the caller must
+     * roll back the transaction to discard the tallies already written.
+     *
+     * @param sessionId Session ID
+     * @param tally     Accumulated attempts
+     * @return false if the session has ended or no longer exists
+     */
+    @Transactional
+    public boolean writeToOpenSession(UUID sessionId, SessionAttemptTally tally) {
+        writeStats(sessionId, tally);
+        return studySessionRepository
+            .incrementOpenSessionCounters(
+                sessionId,
+                tally.getTotalItems(),
+                tally.getCorrectItems(),
+                tally.getResponseTimeSumMs(),
+                tally.getResponseTimeCount()) > 0;
+    }
+
+    private void writeStats(UUID sessionId, SessionAttemptTally tally) {
+        tally
+            .getVocabularyTallies()
+            .forEach(
+                (vocabularyId, counts) -> sessionVocabularyStatRepository
+                    .incrementStats(sessionId, vocabularyId, counts[0], counts[1]));
+
+        userDailyActivityRepository
+            .addAttempts(sessionId, LocalDate.now(), tally.getTotalItems(), tally.getCorrectItems());
+    }
+}
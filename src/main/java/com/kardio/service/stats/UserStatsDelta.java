@@ -0,0 +1,86 @@
+package com.kardio.service.stats;
+
+import java.time.LocalDateTime;
+
+import com.kardio.entity.enums.LearningStatus;
+
+import lombok.Getter;
+
+/**
+ * Changes to a user's statistics collected while recording attempts, applied
+ * to the user_stats row with one statement.
+ */
+@Getter
+public class UserStatsDelta {
+
+    private int notStudied;
+    private int learning;
+    private int mastered;
+    private long correct;
+    private long incorrect;
+    private LocalDateTime lastStudiedAt;
+
+    /**
+     * Records a card moving between statuses.
+     *
+     * @param from Previous status, or null if the card had no progress row
+     * @param to   New status
+     */
+    public void move(LearningStatus from, LearningStatus to) {
+        if (from == to) {
+            return;
+        }
+        add(from, -1);
+        add(to, 1);
+    }
+
+    /**
+     * Records an attempt.
+     *
+     * @param isCorrect Whether the attempt was correct
+     * @param at        Attempt time
+     */
+    public void attempt(boolean isCorrect, LocalDateTime at) {
+        if (isCorrect) {
+            correct++;
+        } else {
+            incorrect++;
+        }
+        if (lastStudiedAt == null || at.isAfter(lastStudiedAt)) {
+            lastStudiedAt = at;
+        }
+    }
+
+    public boolean isEmpty() {
+        return notStudied == 0 && learning == 0 && mastered == 0 && correct == 0 && incorrect == 0;
+    }
+
+    /**
+     * Status of a card after an attempt, using the same rule as
+     * {@link com.kardio.entity.LearningProgress} and the attempt upsert.
+     *
+     * @param correctCount   Correct answers including the attempt
+     * @param incorrectCount Incorrect answers including the attempt
+     * @return Resulting status
+     */
+    public static LearningStatus statusFor(int correctCount, int incorrectCount) {
+        final int total = correctCount + incorrectCount;
+        if (total == 0) {
+            return LearningStatus.NOT_STUDIED;
+        }
+        return correctCount >= 5 && correctCount * 100.0 >= 90.0 * total
+                ? LearningStatus.MASTERED
+                : LearningStatus.LEARNING;
+    }
+
+    private void add(LearningStatus status, int amount) {
+        if (status == null) {
+            return;
+        }
+        switch (status) {
+            case NOT_STUDIED -> notStudied += amount;
+            case LEARNING -> learning += amount;
+            case MASTERED -> mastered += amount;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.kardio.service.stats;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kardio.repository.UserStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applies collected deltas to the user_stats row in the caller's transaction,
+ * so the counters commit or roll back together with the progress rows.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserStatsWriter {
+
+    private final UserStatsRepository userStatsRepository;
+
+    /**
+     * Applies a delta to a user's statistics.
+     *
+     * @param userId User ID
+     * @param delta  Collected changes
+     */
+    @Transactional
+    public void apply(UUID userId, UserStatsDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        userStatsRepository
+            .applyDelta(
+                userId,
+                delta.getNotStudied(),
+                delta.getLearning(),
+                delta.getMastered(),
+                delta.getCorrect(),
+                delta.getIncorrect(),
+                delta.getLastStudiedAt(),
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,28 @@
+-- Adds the full-text search column of study_modules.
+--
+-- Run this once, before deploying a version with module full-text search, on
+-- any database whose study_modules table already has rows. Adding a stored
+-- generated column rewrites the whole table under an ACCESS EXCLUSIVE lock,
+-- so reads and writes of study_modules block until it finishes: run it in a
+-- maintenance window. The application refuses to start while the column is
+-- missing from a non-empty table, and adds it by itself only to an empty one.
+--
+-- The search indexes are built by the application on startup with
+-- CREATE INDEX CONCURRENTLY. To build them ahead of the deploy instead, run
+-- the statements below outside a transaction (e.g. psql without -1).
+
+ALTER TABLE study_modules
+    ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', COALESCE(name, '')), 'A') ||
+        setweight(to_tsvector('english', COALESCE(description, '')), 'B')) STORED;
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_study_modules_search
+    ON study_modules USING GIN (search_vector);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_study_modules_public_search
+    ON study_modules USING GIN (search_vector) WHERE visibility = 'PUBLIC' AND deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vocabularies_term_trgm
+    ON vocabularies USING GIN (term gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vocabularies_definition_trgm
+    ON vocabularies USING GIN (definition gin_trgm_ops);
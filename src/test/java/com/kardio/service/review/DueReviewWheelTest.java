@@ -0,0 +1,143 @@
+package com.kardio.service.review;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class DueReviewWheelTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 10, 0);
+	private static final int HORIZON = 60;
+
+	@Test
+	void cardsBecomeDueWhenTheirSlotIsReached() {
+		final DueReviewCard overdue = card(1, NOW.minusMinutes(5));
+		final DueReviewCard soon = card(2, NOW.plusMinutes(2));
+		final DueReviewCard later = card(3, NOW.plusMinutes(30));
+		final DueReviewWheel wheel = new DueReviewWheel(NOW, HORIZON, List.of(overdue, soon, later), false);
+
+		assertThat(wheel.poll(NOW, 10)).containsExactly(overdue);
+		assertThat(wheel.poll(NOW.plusMinutes(2), 10)).containsExactly(overdue, soon);
+		assertThat(wheel.poll(NOW.plusMinutes(45), 10)).containsExactly(overdue, soon, later);
+	}
+
+	@Test
+	void cardInTheCurrentMinuteIsDueOnlyOnceItsTimeHasPassed() {
+		final DueReviewCard card = card(1, NOW.plusSeconds(30));
+		final DueReviewWheel wheel = new DueReviewWheel(NOW, HORIZON, List.of(card), false);
+
+		assertThat(wheel.poll(NOW.plusSeconds(10), 10)).isEmpty();
+		assertThat(wheel.poll(NOW.plusSeconds(30), 10)).containsExactly(card);
+	}
+
+	@Test
+	void advancingPastTheWholeWheelDrainsEverySlot() {
+		final DueReviewCard first = card(1, NOW.plusMinutes(1));
+		final DueReviewCard last = card(2, NOW.plusMinutes(HORIZON));
+		final DueReviewWheel wheel = new DueReviewWheel(NOW, HORIZON, List.of(first, last), false);
+
+		assertThat(wheel.poll(NOW.plusMinutes(3 * HORIZON), 10)).containsExactly(first, last);
+	}
+
+	@Test
+	void pollReturnsTheMostOverdueCardsInQueueOrder() {
+		final LocalDateTime at = NOW.minusMinutes(1);
+		final DueReviewCard high = new DueReviewCard(new UUID(-1L, 0L), null, "high", "high", at);
+		final DueReviewCard low = new DueReviewCard(new UUID(1L, 0L), null, "low", "low", at);
+		final DueReviewCard oldest = card(3, NOW.minusMinutes(10));
+		final DueReviewWheel wheel = new DueReviewWheel(NOW, HORIZON, List.of(oldest, low, high), false);
+
+		// Same time: UUIDs compare unsigned, so the negative high bits sort last
+		assertThat(wheel.poll(NOW, 10)).containsExactly(oldest, low, high);
+		assertThat(wheel.poll(NOW, 2)).containsExactly(oldest, low);
+	}
+
+	@Test
+	void rescheduleMovesACardBetweenSlotsAndTheDueSet() {
+		final DueReviewCard card = card(1, NOW.minusMinutes(1));
+		final DueReviewWheel wheel = new DueReviewWheel(NOW, HORIZON, List.of(card), false);
+
+		wheel.reschedule(card.getVocabularyId(), NOW.plusMinutes(20));
+		assertThat(wheel.poll(NOW, 10)).isEmpty();
+
+		final List<DueReviewCard> due = wheel.poll(NOW.plusMinutes(20), 10);
+		assertThat(due).hasSize(1);
+		assertThat(due.get(0).getVocabularyId()).isEqualTo(card.getVocabularyId());
+		assertThat(due.get(0).getNextReviewAt()).isEqualTo(NOW.plusMinutes(20));
+	}
+
+	@Test
+	void rescheduleBeyondCoverageOrToNothingDropsTheCard() {
+		final DueReviewCard outside = card(1, NOW.minusMinutes(1));
+		final DueReviewCard unscheduled = card(2, NOW.minusMinutes(1));
+		final DueReviewWheel wheel = new DueReviewWheel(NOW, HORIZON, List.of(outside, unscheduled), false);
+
+		wheel.reschedule(outside.getVocabularyId(), NOW.plusDays(1));
+		wheel.reschedule(unscheduled.getVocabularyId(), null);
+
+		assertThat(wheel.poll(NOW.plusMinutes(HORIZON), 10)).isEmpty();
+	}
+
+	@Test
+	void unknownCardEnteringTheHorizonStaysPendingUntilResolved() {
+		final DueReviewWheel wheel = new DueReviewWheel(NOW, HORIZON, List.of(), false);
+		final UUID vocabularyId = new UUID(0L, 7L);
+		final UUID inaccessible = new UUID(0L, 8L);
+
+		wheel.reschedule(vocabularyId, NOW.plusMinutes(5));
+		wheel.reschedule(inaccessible, NOW.plusMinutes(5));
+		assertThat(wheel.duePending(NOW)).isEmpty();
+		assertThat(wheel.duePending(NOW.plusMinutes(5))).containsExactlyInAnyOrder(vocabularyId, inaccessible);
+
+		// The pending time wins over the time that was read
+		final DueReviewCard loaded = new DueReviewCard(vocabularyId, null, "term", "definition", NOW);
+		wheel.resolvePending(Set.of(vocabularyId, inaccessible), List.of(loaded));
+
+		assertThat(wheel.duePending(NOW.plusMinutes(5))).isEmpty();
+		final List<DueReviewCard> due = wheel.poll(NOW.plusMinutes(5), 10);
+		assertThat(due).hasSize(1);
+		assertThat(due.get(0).getNextReviewAt()).isEqualTo(NOW.plusMinutes(5));
+	}
+
+	@Test
+	void truncatedWheelServesOnlyWithinItsCoverageOrWithEnoughDueCards() {
+		final DueReviewCard first = card(1, NOW.plusMinutes(5));
+		final DueReviewCard last = card(2, NOW.plusMinutes(10));
+		final DueReviewWheel wheel = new DueReviewWheel(NOW, HORIZON, List.of(first, last), true);
+
+		assertThat(wheel.canServe(NOW.plusMinutes(9), 10)).isTrue();
+		assertThat(wheel.canServe(NOW.plusMinutes(11), 10)).isFalse();
+		assertThat(wheel.canServe(NOW.plusMinutes(11), 2)).isTrue();
+
+		// Cards after the last loaded one may exist in the database, so they are not tracked
+		wheel.reschedule(first.getVocabularyId(), NOW.plusMinutes(20));
+		assertThat(wheel.poll(NOW.plusMinutes(30), 10)).containsExactly(last);
+	}
+
+	@Test
+	void fullWheelServesUntilTheEndOfTheHorizon() {
+		final DueReviewWheel wheel = new DueReviewWheel(NOW, HORIZON, List.of(), false);
+
+		assertThat(wheel.canServe(NOW.plusMinutes(HORIZON), 10)).isTrue();
+		assertThat(wheel.canServe(NOW.plusMinutes(HORIZON + 1), 10)).isFalse();
+	}
+
+	@Test
+	void remembersTheModulesOfItsCards() {
+		final UUID moduleId = new UUID(1L, 1L);
+		final DueReviewCard card = new DueReviewCard(new UUID(0L, 1L), moduleId, "term", "definition", NOW);
+		final DueReviewWheel wheel = new DueReviewWheel(NOW, HORIZON, List.of(card), false);
+
+		assertThat(wheel.containsModule(moduleId)).isTrue();
+		assertThat(wheel.containsModule(new UUID(1L, 2L))).isFalse();
+	}
+
+	private static DueReviewCard card(long id, LocalDateTime nextReviewAt) {
+		return new DueReviewCard(new UUID(0L, id), null, "term " + id, "definition " + id, nextReviewAt);
+	}
+}
@@ -0,0 +1,104 @@
+package com.kardio.service.review;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class FsrsReviewSchedulerTest {
+
+	private static final int DAY = 24 * 60;
+
+	private final FsrsReviewScheduler scheduler = new FsrsReviewScheduler(0.9);
+
+	@Test
+	void newCardTakesInitialStabilityAndDifficultyOfItsGrade() {
+		final ReviewCardState good = new ReviewCardState();
+		assertThat(scheduler.review(good, ReviewGrade.GOOD, 0)).isEqualTo(4 * DAY);
+		assertThat(good.getStability()).isCloseTo(3.7145, within(1e-9));
+		assertThat(good.getDifficulty()).isCloseTo(5.1618, within(1e-9));
+		assertThat(good.getRepetitions()).isEqualTo(1);
+
+		final ReviewCardState easy = new ReviewCardState();
+		assertThat(scheduler.review(easy, ReviewGrade.EASY, 0)).isEqualTo(14 * DAY);
+		assertThat(easy.getDifficulty()).isCloseTo(5.1618 - 1.2298, within(1e-9));
+
+		final ReviewCardState hard = new ReviewCardState();
+		assertThat(scheduler.review(hard, ReviewGrade.HARD, 0)).isEqualTo(DAY);
+	}
+
+	@Test
+	void failingNewCardRelearnsWithoutALapse() {
+		final ReviewCardState card = new ReviewCardState();
+
+		assertThat(scheduler.review(card, ReviewGrade.AGAIN, 0)).isEqualTo(ReviewScheduler.RELEARN_INTERVAL_MINUTES);
+		assertThat(card.getStability()).isCloseTo(0.4872, within(1e-9));
+		assertThat(card.getLapses()).isZero();
+		assertThat(card.getRepetitions()).isZero();
+	}
+
+	@Test
+	void successfulReviewOnScheduleGrowsStabilityAndInterval() {
+		final ReviewCardState card = new ReviewCardState();
+		final int first = scheduler.review(card, ReviewGrade.GOOD, 0);
+		final double stability = card.getStability();
+		final double difficulty = card.getDifficulty();
+
+		final int second = scheduler.review(card, ReviewGrade.GOOD, first);
+
+		assertThat(card.getStability()).isGreaterThan(stability);
+		assertThat(second).isGreaterThan(first);
+		assertThat(card.getDifficulty()).isCloseTo(difficulty, within(1e-9));
+		assertThat(card.getRepetitions()).isEqualTo(2);
+	}
+
+	@Test
+	void lapseShrinksStabilityRaisesDifficultyAndCountsALapse() {
+		final ReviewCardState card = new ReviewCardState();
+		card.setStability(10);
+		card.setDifficulty(5);
+		card.setRepetitions(3);
+
+		assertThat(scheduler.review(card, ReviewGrade.AGAIN, 10 * DAY))
+			.isEqualTo(ReviewScheduler.RELEARN_INTERVAL_MINUTES);
+		assertThat(card.getStability()).isLessThan(10).isPositive();
+		assertThat(card.getDifficulty()).isGreaterThan(5);
+		assertThat(card.getLapses()).isEqualTo(1);
+		assertThat(card.getRepetitions()).isZero();
+	}
+
+	@Test
+	void difficultyStaysWithinBounds() {
+		final ReviewCardState card = new ReviewCardState();
+		card.setStability(1);
+		card.setDifficulty(10);
+
+		scheduler.review(card, ReviewGrade.AGAIN, DAY);
+		assertThat(card.getDifficulty()).isLessThanOrEqualTo(10);
+
+		card.setDifficulty(1);
+		scheduler.review(card, ReviewGrade.EASY, DAY);
+		assertThat(card.getDifficulty()).isGreaterThanOrEqualTo(1);
+	}
+
+	@Test
+	void lowerDesiredRetentionGivesLongerIntervals() {
+		final ReviewCardState strict = new ReviewCardState();
+		final ReviewCardState relaxed = new ReviewCardState();
+
+		final int strictInterval = scheduler.review(strict, ReviewGrade.EASY, 0);
+		final int relaxedInterval = new FsrsReviewScheduler(0.8).review(relaxed, ReviewGrade.EASY, 0);
+
+		assertThat(relaxedInterval).isGreaterThan(strictInterval);
+	}
+
+	@Test
+	void intervalIsCappedAtOneYear() {
+		final ReviewCardState card = new ReviewCardState();
+		card.setStability(300);
+		card.setDifficulty(1);
+		card.setRepetitions(5);
+
+		assertThat(scheduler.review(card, ReviewGrade.EASY, 300 * DAY)).isEqualTo(ReviewScheduler.MAX_INTERVAL_MINUTES);
+	}
+}
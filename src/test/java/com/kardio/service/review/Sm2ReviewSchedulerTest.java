@@ -0,0 +1,91 @@
+package com.kardio.service.review;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class Sm2ReviewSchedulerTest {
+
+	private static final int DAY = 24 * 60;
+
+	private final Sm2ReviewScheduler scheduler = new Sm2ReviewScheduler();
+
+	@Test
+	void successfulReviewsGrowFromOneDayToSixDaysToEaseTimesInterval() {
+		final ReviewCardState card = new ReviewCardState();
+
+		assertThat(scheduler.review(card, ReviewGrade.GOOD, 0)).isEqualTo(DAY);
+		assertThat(scheduler.review(card, ReviewGrade.GOOD, DAY)).isEqualTo(6 * DAY);
+		assertThat(scheduler.review(card, ReviewGrade.GOOD, 6 * DAY)).isEqualTo(15 * DAY);
+
+		assertThat(card.getRepetitions()).isEqualTo(3);
+		assertThat(card.getIntervalMinutes()).isEqualTo(15 * DAY);
+		assertThat(card.getEaseFactor()).isCloseTo(2.5, within(1e-9));
+	}
+
+	@Test
+	void easeFactorFollowsAnswerQuality() {
+		final ReviewCardState easy = new ReviewCardState();
+		scheduler.review(easy, ReviewGrade.EASY, 0);
+		assertThat(easy.getEaseFactor()).isCloseTo(2.6, within(1e-9));
+
+		final ReviewCardState good = new ReviewCardState();
+		scheduler.review(good, ReviewGrade.GOOD, 0);
+		assertThat(good.getEaseFactor()).isCloseTo(2.5, within(1e-9));
+
+		final ReviewCardState hard = new ReviewCardState();
+		scheduler.review(hard, ReviewGrade.HARD, 0);
+		assertThat(hard.getEaseFactor()).isCloseTo(2.36, within(1e-9));
+
+		final ReviewCardState again = new ReviewCardState();
+		scheduler.review(again, ReviewGrade.AGAIN, 0);
+		assertThat(again.getEaseFactor()).isCloseTo(1.96, within(1e-9));
+	}
+
+	@Test
+	void lapseResetsRepetitionsAndRelearnsAfterThirtyMinutes() {
+		final ReviewCardState card = new ReviewCardState();
+		scheduler.review(card, ReviewGrade.GOOD, 0);
+		scheduler.review(card, ReviewGrade.GOOD, DAY);
+
+		assertThat(scheduler.review(card, ReviewGrade.AGAIN, 6 * DAY))
+			.isEqualTo(ReviewScheduler.RELEARN_INTERVAL_MINUTES);
+		assertThat(card.getRepetitions()).isZero();
+		assertThat(card.getLapses()).isEqualTo(1);
+
+		// The schedule restarts at one day
+		assertThat(scheduler.review(card, ReviewGrade.GOOD, 30)).isEqualTo(DAY);
+		assertThat(card.getRepetitions()).isEqualTo(1);
+	}
+
+	@Test
+	void failingNewCardIsNotALapse() {
+		final ReviewCardState card = new ReviewCardState();
+
+		scheduler.review(card, ReviewGrade.AGAIN, 0);
+
+		assertThat(card.getLapses()).isZero();
+		assertThat(card.getIntervalMinutes()).isEqualTo(ReviewScheduler.RELEARN_INTERVAL_MINUTES);
+	}
+
+	@Test
+	void easeFactorNeverDropsBelowMinimum() {
+		final ReviewCardState card = new ReviewCardState();
+
+		for (int i = 0; i < 10; i++) {
+			scheduler.review(card, ReviewGrade.AGAIN, 0);
+		}
+
+		assertThat(card.getEaseFactor()).isCloseTo(1.3, within(1e-9));
+	}
+
+	@Test
+	void intervalIsCappedAtOneYear() {
+		final ReviewCardState card = new ReviewCardState();
+		card.setRepetitions(5);
+		card.setIntervalMinutes(300 * DAY);
+
+		assertThat(scheduler.review(card, ReviewGrade.EASY, 300 * DAY)).isEqualTo(ReviewScheduler.MAX_INTERVAL_MINUTES);
+	}
+}
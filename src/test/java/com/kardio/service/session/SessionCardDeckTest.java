@@ -0,0 +1,131 @@
+package com.kardio.service.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.kardio.entity.enums.LearningStatus;
+
+class SessionCardDeckTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+	@Test
+	void ordersMasteredLastThenWeakestFirst() {
+		final SessionCard mastered = card(1, LearningStatus.MASTERED, 9, 1, null);
+		final SessionCard strong = card(2, LearningStatus.LEARNING, 8, 2, null);
+		final SessionCard weak = card(3, LearningStatus.LEARNING, 1, 3, null);
+		final SessionCard failing = card(4, LearningStatus.LEARNING, 0, 2, null);
+
+		final SessionCardDeck deck = new SessionCardDeck(List.of(mastered, strong, weak, failing));
+
+		assertThat(deck.next(10)).containsExactly(failing, weak, strong, mastered);
+	}
+
+	@Test
+	void unseenCardsComeBeforeCardsWithTheSameAccuracy() {
+		final SessionCard failing = card(1, LearningStatus.LEARNING, 0, 3, null);
+		final SessionCard unseen = card(2, LearningStatus.NOT_STUDIED, 0, 0, null);
+
+		final SessionCardDeck deck = new SessionCardDeck(List.of(failing, unseen));
+
+		assertThat(deck.next(10)).containsExactly(unseen, failing);
+	}
+
+	@Test
+	void tiesGoByEarliestReviewThenModuleOrder() {
+		final SessionCard later = card(1, LearningStatus.LEARNING, 1, 1, NOW.plusDays(1));
+		final SessionCard earlier = card(2, LearningStatus.LEARNING, 1, 1, NOW);
+		final SessionCard unscheduled = card(3, LearningStatus.LEARNING, 1, 1, null);
+		final SessionCard firstUnseen = card(4, LearningStatus.NOT_STUDIED, 0, 0, null);
+		final SessionCard secondUnseen = card(5, LearningStatus.NOT_STUDIED, 0, 0, null);
+
+		final SessionCardDeck deck = new SessionCardDeck(List.of(later, firstUnseen, earlier, secondUnseen, unscheduled));
+
+		assertThat(deck.next(10)).containsExactly(firstUnseen, secondUnseen, unscheduled, earlier, later);
+	}
+
+	@Test
+	void servesBatchesFromTheFrontUntilExhausted() {
+		final List<SessionCard> cards = List
+			.of(
+				card(1, LearningStatus.NOT_STUDIED, 0, 0, null),
+				card(2, LearningStatus.NOT_STUDIED, 0, 0, null),
+				card(3, LearningStatus.NOT_STUDIED, 0, 0, null));
+		final SessionCardDeck deck = new SessionCardDeck(cards);
+
+		assertThat(deck.next(2)).containsExactly(cards.get(0), cards.get(1));
+		assertThat(deck.remaining()).isEqualTo(1);
+		assertThat(deck.next(2)).containsExactly(cards.get(2));
+		assertThat(deck.next(2)).isEmpty();
+		assertThat(deck.remaining()).isZero();
+	}
+
+	@Test
+	void missedCardsGoBackToTheEndOnce() {
+		final SessionCard first = card(1, LearningStatus.NOT_STUDIED, 0, 0, null);
+		final SessionCard second = card(2, LearningStatus.NOT_STUDIED, 0, 0, null);
+		final SessionCard third = card(3, LearningStatus.NOT_STUDIED, 0, 0, null);
+		final SessionCardDeck deck = new SessionCardDeck(List.of(first, second, third));
+
+		assertThat(deck.next(1)).containsExactly(first);
+		deck.requeue(first.getVocabularyId());
+		// Ignored: already waiting, still waiting, and not part of the deck
+		deck.requeue(first.getVocabularyId());
+		deck.requeue(third.getVocabularyId());
+		deck.requeue(new UUID(0L, 99L));
+
+		assertThat(deck.remaining()).isEqualTo(3);
+		assertThat(deck.next(10)).containsExactly(second, third, first);
+	}
+
+	@Test
+	void removedCardsAreNoLongerServedOrRequeued() {
+		final SessionCard first = card(1, LearningStatus.NOT_STUDIED, 0, 0, null);
+		final SessionCard second = card(2, LearningStatus.NOT_STUDIED, 0, 0, null);
+		final SessionCard third = card(3, LearningStatus.NOT_STUDIED, 0, 0, null);
+		final SessionCardDeck deck = new SessionCardDeck(List.of(first, second, third));
+
+		assertThat(deck.next(1)).containsExactly(first);
+		deck.remove(first.getVocabularyId());
+		deck.remove(second.getVocabularyId());
+		deck.requeue(first.getVocabularyId());
+
+		assertThat(deck.size()).isEqualTo(1);
+		assertThat(deck.next(10)).containsExactly(third);
+	}
+
+	@Test
+	void exposesTheVocabularyIdsOfEveryCard() {
+		final SessionCard first = card(1, LearningStatus.NOT_STUDIED, 0, 0, null);
+		final SessionCard second = card(2, LearningStatus.MASTERED, 5, 0, null);
+		final SessionCardDeck deck = new SessionCardDeck(List.of(first, second));
+		deck.next(10);
+
+		assertThat(deck.getVocabularyIds()).containsExactlyInAnyOrder(first.getVocabularyId(), second.getVocabularyId());
+	}
+
+	private static SessionCard card(
+			long id,
+			LearningStatus status,
+			int correctCount,
+			int incorrectCount,
+			LocalDateTime nextReviewAt) {
+		return new SessionCard(
+			new UUID(0L, id),
+			"term " + id,
+			"definition " + id,
+			null,
+			null,
+			null,
+			null,
+			status,
+			correctCount,
+			incorrectCount,
+			nextReviewAt);
+	}
+}
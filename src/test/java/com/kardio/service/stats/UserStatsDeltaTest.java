@@ -0,0 +1,80 @@
+package com.kardio.service.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.kardio.entity.enums.LearningStatus;
+
+class UserStatsDeltaTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+	@Test
+	void newDeltaIsEmpty() {
+		final UserStatsDelta delta = new UserStatsDelta();
+
+		assertThat(delta.isEmpty()).isTrue();
+		assertThat(delta.getLastStudiedAt()).isNull();
+	}
+
+	@Test
+	void moveTransfersOneCardBetweenStatuses() {
+		final UserStatsDelta delta = new UserStatsDelta();
+
+		delta.move(null, LearningStatus.LEARNING);
+		delta.move(LearningStatus.NOT_STUDIED, LearningStatus.LEARNING);
+		delta.move(LearningStatus.LEARNING, LearningStatus.MASTERED);
+
+		assertThat(delta.getNotStudied()).isEqualTo(-1);
+		assertThat(delta.getLearning()).isEqualTo(1);
+		assertThat(delta.getMastered()).isEqualTo(1);
+	}
+
+	@Test
+	void moveToTheSameStatusChangesNothing() {
+		final UserStatsDelta delta = new UserStatsDelta();
+
+		delta.move(LearningStatus.LEARNING, LearningStatus.LEARNING);
+
+		assertThat(delta.isEmpty()).isTrue();
+	}
+
+	@Test
+	void movesThatCancelOutLeaveTheDeltaEmpty() {
+		final UserStatsDelta delta = new UserStatsDelta();
+
+		delta.move(LearningStatus.LEARNING, LearningStatus.MASTERED);
+		delta.move(LearningStatus.MASTERED, LearningStatus.LEARNING);
+
+		assertThat(delta.isEmpty()).isTrue();
+	}
+
+	@Test
+	void attemptCountsAnswersAndKeepsTheLatestTime() {
+		final UserStatsDelta delta = new UserStatsDelta();
+
+		delta.attempt(true, NOW.plusMinutes(2));
+		delta.attempt(false, NOW);
+		delta.attempt(true, NOW.plusMinutes(1));
+
+		assertThat(delta.getCorrect()).isEqualTo(2);
+		assertThat(delta.getIncorrect()).isEqualTo(1);
+		assertThat(delta.getLastStudiedAt()).isEqualTo(NOW.plusMinutes(2));
+		assertThat(delta.isEmpty()).isFalse();
+	}
+
+	@Test
+	void statusForRequiresFiveCorrectAndNinetyPercent() {
+		assertThat(UserStatsDelta.statusFor(0, 0)).isEqualTo(LearningStatus.NOT_STUDIED);
+		assertThat(UserStatsDelta.statusFor(0, 1)).isEqualTo(LearningStatus.LEARNING);
+		assertThat(UserStatsDelta.statusFor(4, 0)).isEqualTo(LearningStatus.LEARNING);
+		assertThat(UserStatsDelta.statusFor(5, 0)).isEqualTo(LearningStatus.MASTERED);
+		assertThat(UserStatsDelta.statusFor(9, 1)).isEqualTo(LearningStatus.MASTERED);
+		assertThat(UserStatsDelta.statusFor(8, 1)).isEqualTo(LearningStatus.LEARNING);
+		assertThat(UserStatsDelta.statusFor(18, 2)).isEqualTo(LearningStatus.MASTERED);
+		assertThat(UserStatsDelta.statusFor(17, 2)).isEqualTo(LearningStatus.LEARNING);
+	}
+}